@@ -0,0 +1,79 @@
+package com.tterrag.registrate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tterrag.registrate.util.entry.BenchmarkRegistrate;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.item.CreativeModeTab;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Creative tab dispatch with no-op modifiers. The tab being built always has the same number of modifiers, while the total number of modifiers spread over all other tabs grows, so the cost of a
+ * rebuild should stay flat across {@link #totalModifiers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreativeTabDispatchBenchmark {
+
+    private static final int TABS = 40;
+    private static final int MODIFIERS_PER_TAB = 25;
+
+    @Param({ "1000", "10000", "100000" })
+    public int totalModifiers;
+
+    @Param({ "false", "true" })
+    public boolean cache;
+
+    private BenchmarkRegistrate registrate;
+    private ResourceKey<CreativeModeTab> tab;
+    private final Supplier<FeatureFlagSet> flags = FeatureFlagSet::of;
+    private final BooleanSupplier hasPermissions = () -> false;
+    private BiConsumer<ItemStack, CreativeModeTab.TabVisibility> output;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole bh) {
+        registrate = new BenchmarkRegistrate().cacheCreativeModeTabs(cache);
+        tab = tab(0);
+        for (int i = 0; i < MODIFIERS_PER_TAB; i++) {
+            registrate.modifyCreativeModeTab(tab, bh::consume);
+        }
+        for (int i = MODIFIERS_PER_TAB; i < totalModifiers; i++) {
+            registrate.modifyCreativeModeTab(tab(1 + i % (TABS - 1)), bh::consume);
+        }
+        output = (stack, visibility) -> bh.consume(stack);
+    }
+
+    private static ResourceKey<CreativeModeTab> tab(int i) {
+        return ResourceKey.create(Registries.CREATIVE_MODE_TAB, new ResourceLocation("benchmark", "tab_" + i));
+    }
+
+    @Benchmark
+    public void rebuildTab() {
+        registrate.buildCreativeModeTabContents(tab, flags, hasPermissions, output);
+    }
+}
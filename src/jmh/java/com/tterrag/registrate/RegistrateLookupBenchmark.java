@@ -0,0 +1,77 @@
+package com.tterrag.registrate;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tterrag.registrate.util.entry.BenchmarkRegistrate;
+import com.tterrag.registrate.util.entry.RegistryEntry;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Entry lookups through {@link AbstractRegistrate#get(String, ResourceKey)} and {@link AbstractRegistrate#getAll(ResourceKey)} over synthetic entry sets, both while registrations are still open and
+ * after they have been frozen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrateLookupBenchmark {
+
+    private static final ResourceKey<Registry<Object>> REGISTRY = ResourceKey.createRegistryKey(new ResourceLocation("benchmark", "values"));
+
+    @Param({ "1000", "10000", "100000" })
+    public int entries;
+
+    @Param({ "false", "true" })
+    public boolean frozen;
+
+    private BenchmarkRegistrate registrate;
+    private String[] names;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        registrate = new BenchmarkRegistrate();
+        names = new String[entries];
+        for (int i = 0; i < entries; i++) {
+            names[i] = "entry_" + i;
+            registrate.simple(names[i], REGISTRY, Object::new);
+        }
+        if (frozen) {
+            registrate.freeze();
+        }
+        registrate.getAll(REGISTRY);
+    }
+
+    @Benchmark
+    public RegistryEntry<Object> get() {
+        int i = next++;
+        if (next >= entries) {
+            next = 0;
+        }
+        return registrate.get(names[i], REGISTRY);
+    }
+
+    @Benchmark
+    public Collection<RegistryEntry<Object>> getAll() {
+        return registrate.getAll(REGISTRY);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tterrag.registrate;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.util.entry.BenchmarkRegistrate;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+
+/**
+ * Tag accumulation and reverse tag lookups over synthetic entry sets. Only uses registrate state which does not require a running game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagIndexBenchmark {
+
+    private static final int TAGS = 16;
+
+    @Param({ "1000", "10000", "100000" })
+    public int entries;
+
+    private BenchmarkRegistrate registrate;
+    private TagKey<Block>[] tags;
+    private ResourceLocation[] ids;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup() {
+        tags = new TagKey[TAGS];
+        for (int i = 0; i < TAGS; i++) {
+            tags[i] = TagKey.create(Registries.BLOCK, new ResourceLocation("benchmark", "tag_" + i));
+        }
+        ids = new ResourceLocation[entries];
+        for (int i = 0; i < entries; i++) {
+            ids[i] = new ResourceLocation("benchmark", "entry_" + i);
+        }
+        registrate = fill(new BenchmarkRegistrate());
+        // Build the index once up front
+        registrate.getEntriesInTag(tags[0]);
+    }
+
+    private BenchmarkRegistrate fill(BenchmarkRegistrate registrate) {
+        for (int i = 0; i < entries; i++) {
+            registrate.addToTag(ProviderType.BLOCK_TAGS, tags[i % TAGS], ids[i]);
+        }
+        return registrate;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BenchmarkRegistrate addAllToTags() {
+        return fill(new BenchmarkRegistrate());
+    }
+
+    /**
+     * Includes the cost of {@link #addAllToTags()}, subtract it to get the cost of building the index alone.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Set<String> fillAndBuildIndex() {
+        return fill(new BenchmarkRegistrate()).getEntriesInTag(tags[0]);
+    }
+
+    @Benchmark
+    public Set<String> entriesInTag() {
+        return registrate.getEntriesInTag(tags[next++ & (TAGS - 1)]);
+    }
+
+    @Benchmark
+    public Set<TagKey<Block>> tagsOfEntry() {
+        int i = next++;
+        if (next >= entries) {
+            next = 0;
+        }
+        return registrate.getTagsOf(ids[i].getPath(), Registries.BLOCK);
+    }
+}
@@ -0,0 +1,105 @@
+package com.tterrag.registrate.providers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tterrag.registrate.util.entry.BenchmarkRegistrate;
+
+import net.minecraft.core.Registry;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.fml.LogicalSide;
+
+/**
+ * Dispatch of data generators through {@link com.tterrag.registrate.AbstractRegistrate#genData(ProviderType, RegistrateProvider) genData}, with one generator per entry, set either one by one or
+ * for a whole family through {@link com.tterrag.registrate.AbstractRegistrate#variants variants}. The generators only hand their context to a stub provider, so this measures the dispatch alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenDataBenchmark {
+
+    private static final ResourceKey<Registry<Object>> REGISTRY = ResourceKey.createRegistryKey(new ResourceLocation("benchmark", "values"));
+    private static final ProviderType<StubProvider> STUB = ProviderType.register("benchmark_stub", (p, e) -> {
+        throw new UnsupportedOperationException("Stub provider is created by the benchmark");
+    });
+
+    private static class StubProvider implements RegistrateProvider {
+
+        private final Blackhole bh;
+
+        StubProvider(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        void accept(Object data) {
+            bh.consume(data);
+        }
+
+        @Override
+        public LogicalSide getSide() {
+            return LogicalSide.SERVER;
+        }
+
+        @Override
+        public CompletableFuture<?> run(CachedOutput cache) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getName() {
+            return "Benchmark stub";
+        }
+    }
+
+    @Param({ "1000", "10000", "100000" })
+    public int entries;
+
+    @Param({ "false", "true" })
+    public boolean family;
+
+    private BenchmarkRegistrate registrate;
+    private StubProvider provider;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole bh) {
+        registrate = BenchmarkRegistrate.forDatagen();
+        provider = new StubProvider(bh);
+        if (family) {
+            List<Integer> variants = IntStream.range(0, entries).boxed().toList();
+            registrate.variants(variants, i -> "entry_" + i, (name, i) -> registrate.generic(name, REGISTRY, Object::new),
+                    builder -> builder.setData(STUB, (ctx, prov) -> prov.accept(ctx)));
+        } else {
+            for (int i = 0; i < entries; i++) {
+                registrate.generic("entry_" + i, REGISTRY, Object::new)
+                        .setData(STUB, (ctx, prov) -> prov.accept(ctx))
+                        .register();
+            }
+        }
+    }
+
+    @Benchmark
+    public void genData() {
+        registrate.genData(STUB, provider);
+    }
+}
@@ -0,0 +1,74 @@
+package com.tterrag.registrate.providers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lang conversions over a synthetic lang set. Roughly one in four translations contains format arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LangBenchmark {
+
+    private static final String[] WORDS = { "copper", "block", "reinforced", "machine", "casing", "gear", "large", "tank", "fluid", "pipe", "glass", "frame" };
+    private static final String[] FORMATS = { " (%s)", ": %d", " %1$s of %2$s", " 100%%" };
+
+    @Param({ "1000", "10000", "100000" })
+    public int entries;
+
+    private String[] internalNames;
+    private String[] translations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        internalNames = new String[entries];
+        translations = new String[entries];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            sb.setLength(0);
+            int words = 1 + rand.nextInt(4);
+            for (int j = 0; j < words; j++) {
+                sb.append(WORDS[rand.nextInt(WORDS.length)]).append('_');
+            }
+            internalNames[i] = sb.append(i).toString();
+            String translation = RegistrateLangProvider.toEnglishName(internalNames[i]);
+            if ((i & 3) == 0) {
+                translation += FORMATS[rand.nextInt(FORMATS.length)];
+            }
+            translations[i] = translation;
+        }
+    }
+
+    @Benchmark
+    public void toUpsideDown(Blackhole bh) {
+        for (String translation : translations) {
+            bh.consume(RegistrateLangProvider.toUpsideDown(translation));
+        }
+    }
+
+    @Benchmark
+    public void toEnglishName(Blackhole bh) {
+        for (String internalName : internalNames) {
+            bh.consume(RegistrateLangProvider.toEnglishName(internalName));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tterrag.registrate.util.entry;
+
+import java.lang.reflect.Field;
+
+import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.util.nullness.NonNullSupplier;
+
+/**
+ * The registrate shared by all benchmarks. Only uses registrate state which does not require a running game.
+ */
+public final class BenchmarkRegistrate extends AbstractRegistrate<BenchmarkRegistrate> {
+
+    public BenchmarkRegistrate() {
+        super("benchmark");
+    }
+
+    /**
+     * Create a registrate which behaves as if datagen were running, so that it collects data generators.
+     *
+     * @return The new registrate
+     */
+    public static BenchmarkRegistrate forDatagen() {
+        BenchmarkRegistrate ret = new BenchmarkRegistrate();
+        try {
+            Field doDatagen = AbstractRegistrate.class.getDeclaredField("doDatagen");
+            doDatagen.setAccessible(true);
+            doDatagen.set(ret, (NonNullSupplier<Boolean>) () -> true);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return ret;
+    }
+
+    /**
+     * Freeze registrations, as is done once common setup is over.
+     */
+    public void freeze() {
+        freezeRegistrations();
+    }
+}
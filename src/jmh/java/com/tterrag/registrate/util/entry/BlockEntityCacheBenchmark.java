@@ -0,0 +1,80 @@
+package com.tterrag.registrate.util.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Neighbour lookups over a 3x3 chunk area of machines, through the {@link BlockEntityCache} hit path compared with a model of the uncached path.
+ * <p>
+ * A {@link net.minecraft.world.level.Level Level} can not be created without a running server, so the uncached path is modelled on the least that {@code Level.getBlockEntity} does: find the chunk
+ * by its packed position, then look up the {@link BlockPos} in the chunk's block entity map and check the type. The real method additionally checks the build height and calling thread, and goes
+ * through the chunk source, so this model understates its cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockEntityCacheBenchmark {
+
+    private static final int SIZE = 48;
+    private static final int MASK = 1023;
+
+    private static class Machine {}
+
+    private final Object level = new Object();
+    private final BlockEntityCache<Object, Machine> cache = new BlockEntityCache<>(m -> true);
+    private final Long2ObjectMap<Map<BlockPos, Object>> chunks = new Long2ObjectOpenHashMap<>();
+
+    private final BlockPos[] positions = new BlockPos[MASK + 1];
+    private final long[] packed = new long[MASK + 1];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < positions.length; i++) {
+            BlockPos pos = new BlockPos((i * 7) % SIZE, 64 + (i % 3), (i * 13) % SIZE);
+            Machine machine = new Machine();
+            positions[i] = pos;
+            packed[i] = pos.asLong();
+            chunks.computeIfAbsent(chunkKey(pos), $ -> new HashMap<>()).put(pos, machine);
+            cache.put(level, packed[i], machine);
+        }
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    @Benchmark
+    public Object uncached() {
+        BlockPos pos = positions[next++ & MASK];
+        Object be = chunks.get(chunkKey(pos)).get(pos);
+        return be instanceof Machine ? be : null;
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cache.get(level, packed[next++ & MASK]);
+    }
+}
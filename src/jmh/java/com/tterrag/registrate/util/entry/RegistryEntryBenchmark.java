@@ -0,0 +1,72 @@
+package com.tterrag.registrate.util.entry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.registries.RegistryObject;
+
+/**
+ * Access to a bound entry through {@link RegistryEntry#get()} and through a resolved {@link LazyRegistryEntry}, compared with a static field and with the {@link RegistryObject} it wraps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryEntryBenchmark {
+
+    private static final ResourceKey<Registry<Object>> REGISTRY = ResourceKey.createRegistryKey(new ResourceLocation("benchmark", "values"));
+    private static final ResourceLocation ID = new ResourceLocation("benchmark", "entry");
+    private static final Object VALUE = new Object();
+
+    private RegistryObject<Object> object;
+    private RegistryEntry<Object> entry;
+    private LazyRegistryEntry<Object> lazyEntry;
+
+    @SuppressWarnings("deprecation")
+    @Setup
+    public void setup() {
+        object = RegistryObject.createOptional(ID, REGISTRY, "benchmark");
+        entry = new RegistryEntry<>(new BenchmarkRegistrate(), object);
+        entry.updateReference(StubRegistry.of(REGISTRY, Map.of(ID, VALUE)));
+        entry.get();
+        lazyEntry = new LazyRegistryEntry<>(() -> entry);
+        lazyEntry.get();
+    }
+
+    @Benchmark
+    public Object staticField() {
+        return VALUE;
+    }
+
+    @Benchmark
+    public Object registryEntry() {
+        return entry.get();
+    }
+
+    @Benchmark
+    public Object lazyRegistryEntry() {
+        return lazyEntry.get();
+    }
+
+    @Benchmark
+    public Object registryObject() {
+        return object.get();
+    }
+}
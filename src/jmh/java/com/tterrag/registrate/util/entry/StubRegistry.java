@@ -0,0 +1,40 @@
+package com.tterrag.registrate.util.entry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.registries.IForgeRegistry;
+
+/**
+ * Minimal {@link IForgeRegistry} backed by a map, which supports just enough for {@link net.minecraftforge.registries.RegistryObject RegistryObject} to resolve its value without a running game.
+ */
+final class StubRegistry {
+
+    private StubRegistry() {}
+
+    @SuppressWarnings("unchecked")
+    static <T> IForgeRegistry<T> of(ResourceKey<? extends Registry<T>> key, Map<ResourceLocation, T> values) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "getRegistryKey" -> key;
+            case "getRegistryName" -> key.location();
+            case "containsKey" -> values.containsKey(args[0]);
+            case "getValue" -> values.get(args[0]);
+            case "getHolder" -> Optional.empty();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "StubRegistry[" + key.location() + "]";
+            default -> {
+                if (method.isDefault()) {
+                    yield InvocationHandler.invokeDefault(proxy, method, args);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        };
+        return (IForgeRegistry<T>) Proxy.newProxyInstance(StubRegistry.class.getClassLoader(), new Class<?>[] { IForgeRegistry.class }, handler);
+    }
+}
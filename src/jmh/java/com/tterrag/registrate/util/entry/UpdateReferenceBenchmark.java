@@ -0,0 +1,82 @@
+package com.tterrag.registrate.util.entry;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.RegistryObject;
+
+/**
+ * Per-entry cost of updating 10k entries from a registry, through {@link RegistryEntry#updateReference(IForgeRegistry)} (method handles) compared with the reflective {@link Method#invoke} it
+ * replaced. The registry is a stub, so both paths do the same lookup work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateReferenceBenchmark {
+
+    private static final int ENTRIES = 10_000;
+    private static final ResourceKey<Registry<Object>> REGISTRY = ResourceKey.createRegistryKey(new ResourceLocation("benchmark", "values"));
+
+    private final Method reflective = ObfuscationReflectionHelper.findMethod(RegistryObject.class, "updateReference", IForgeRegistry.class);
+
+    private RegistryObject<Object>[] objects;
+    private RegistryEntry<Object>[] entries;
+    private IForgeRegistry<Object> registry;
+
+    @SuppressWarnings({ "unchecked", "deprecation" })
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkRegistrate owner = new BenchmarkRegistrate();
+        Map<ResourceLocation, Object> values = new HashMap<>();
+        objects = new RegistryObject[ENTRIES];
+        entries = new RegistryEntry[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            ResourceLocation id = new ResourceLocation("benchmark", "entry_" + i);
+            values.put(id, new Object());
+            objects[i] = RegistryObject.createOptional(id, REGISTRY, "benchmark");
+            entries[i] = new RegistryEntry<>(owner, RegistryObject.createOptional(id, REGISTRY, "benchmark"));
+        }
+        registry = StubRegistry.of(REGISTRY, values);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void methodHandle() {
+        for (RegistryEntry<Object> entry : entries) {
+            entry.updateReference(registry);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void reflective() throws ReflectiveOperationException {
+        for (RegistryObject<Object> object : objects) {
+            reflective.invoke(object, registry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.tterrag.registrate.util.nullness;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazySupplierBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    private NonNullSupplier<Object> direct;
+    private NonNullSupplier<Object> lazy;
+
+    @Setup
+    public void setup() {
+        direct = () -> VALUE;
+        lazy = NonNullSupplier.lazy(direct);
+        lazy.get();
+    }
+
+    @Benchmark
+    public Object staticField() {
+        return VALUE;
+    }
+
+    @Benchmark
+    public Object directSupplier() {
+        return direct.get();
+    }
+
+    @Benchmark
+    public Object lazySupplier() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    public Object lazySupplierCreateAndGet() {
+        return NonNullSupplier.lazy(direct).get();
+    }
+}
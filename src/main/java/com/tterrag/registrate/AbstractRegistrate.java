@@ -1,19 +1,35 @@
 package com.tterrag.registrate;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,9 +45,18 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Table;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.tterrag.registrate.builders.AbstractBuilder;
 import com.tterrag.registrate.builders.BlockBuilder;
 import com.tterrag.registrate.builders.BlockEntityBuilder;
 import com.tterrag.registrate.builders.BlockEntityBuilder.BlockEntityFactory;
@@ -47,38 +72,47 @@ import com.tterrag.registrate.builders.MenuBuilder.ForgeMenuFactory;
 import com.tterrag.registrate.builders.MenuBuilder.MenuFactory;
 import com.tterrag.registrate.builders.MenuBuilder.ScreenFactory;
 import com.tterrag.registrate.builders.NoConfigBuilder;
+import com.tterrag.registrate.providers.DataGenContext;
 import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.providers.RegistrateDataProfiler;
 import com.tterrag.registrate.providers.RegistrateDataProvider;
 import com.tterrag.registrate.providers.RegistrateLangProvider;
 import com.tterrag.registrate.providers.RegistrateProvider;
+import com.tterrag.registrate.providers.RegistrateTagsProvider;
 import com.tterrag.registrate.util.CreativeModeTabModifier;
 import com.tterrag.registrate.util.DebugMarkers;
 import com.tterrag.registrate.util.OneTimeEventReceiver;
+import com.tterrag.registrate.util.RegistrateMetrics;
 import com.tterrag.registrate.util.entry.ItemEntry;
 import com.tterrag.registrate.util.entry.RegistryEntry;
+import com.tterrag.registrate.util.nullness.NonNullBiConsumer;
 import com.tterrag.registrate.util.nullness.NonNullBiFunction;
 import com.tterrag.registrate.util.nullness.NonNullConsumer;
 import com.tterrag.registrate.util.nullness.NonNullFunction;
 import com.tterrag.registrate.util.nullness.NonNullSupplier;
 import com.tterrag.registrate.util.nullness.NonNullUnaryOperator;
-import com.tterrag.registrate.util.nullness.NonnullType;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import lombok.extern.log4j.Log4j2;
 import net.minecraft.Util;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.inventory.MenuAccess;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.data.tags.TagsProvider;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagEntry;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType.EntityFactory;
 import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.flag.FeatureFlagSet;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.CreativeModeTabs;
@@ -98,6 +132,7 @@ import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fluids.FluidType;
 import net.minecraftforge.fluids.ForgeFlowingFluid;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.fml.loading.FMLEnvironment;
 import net.minecraftforge.registries.NewRegistryEvent;
@@ -135,30 +170,189 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     private class Registration<R, T extends R> {
         ResourceLocation name;
         ResourceKey<? extends Registry<R>> type;
-        NonNullSupplier<? extends T> creator;
         RegistryEntry<T> delegate;
+        @Nullable Class<?> builderType;
 
+        @NonFinal
         @Getter(value = AccessLevel.NONE)
-        List<NonNullConsumer<? super T>> callbacks = new ArrayList<>();
+        @Nullable NonNullSupplier<? extends T> creator;
 
-        Registration(ResourceLocation name, ResourceKey<? extends Registry<R>> type, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
+        /** Only allocated once a callback is added, most entries never have any */
+        @NonFinal
+        @Getter(value = AccessLevel.NONE)
+        @Nullable List<NonNullConsumer<? super T>> callbacks;
+
+        @NonFinal
+        @Getter(value = AccessLevel.NONE)
+        @Nullable T entry;
+
+        /** Set if construction failed off-thread, so that it is reported on registration rather than retried */
+        @NonFinal
+        @Getter(value = AccessLevel.NONE)
+        @Nullable Throwable failure;
+
+        /** Kept for {@link AbstractRegistrate#exportSnapshot(Path)} */
+        @NonFinal
+        long constructNanos;
+        @NonFinal
+        int callbackCount;
+
+        Registration(ResourceLocation name, ResourceKey<? extends Registry<R>> type, @Nullable Class<?> builderType, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
             this.name = name;
             this.type = type;
-            this.creator =  creator.lazy();
+            this.builderType = builderType;
+            // Not wrapped in a lazy supplier, construct() already guarantees the factory runs only once
+            this.creator = creator;
             this.delegate = entryFactory.apply(RegistryObject.create(name, type.location(), AbstractRegistrate.this.getModid()));
         }
 
-        void register(RegisterEvent event) {
-            T entry = creator.get();
-            event.register(type, rh -> rh.register(name, entry));
-            delegate.updateReference(event);
-            callbacks.forEach(c -> c.accept(entry));
-            callbacks.clear();
+        /**
+         * Construct the entry, if it has not been already. May be called ahead of {@link #register(RegisterEvent)}, which will then not construct it again.
+         *
+         * @return The constructed entry
+         */
+        T construct() {
+            T entry = this.entry;
+            if (entry == null) {
+                Throwable failure = this.failure;
+                if (failure != null) {
+                    throw new IllegalStateException("Concurrent construction of entry " + name + " failed", failure);
+                }
+                NonNullSupplier<? extends T> creator = this.creator;
+                Preconditions.checkState(creator != null, "Registration %s has been released", name);
+                long start = System.nanoTime();
+                entry = creator.get();
+                constructNanos = System.nanoTime() - start;
+                metrics.entryConstructed(type, name, constructNanos);
+                this.entry = entry;
+            }
+            return entry;
+        }
+
+        /**
+         * @param event
+         *            The event to register the entry with, or {@code null} to only construct it and run its callbacks, see {@link AbstractRegistrate#registerDetached(ResourceKey)}
+         */
+        void register(@Nullable RegisterEvent event) {
+            T entry = construct();
+            if (event != null) {
+                event.register(type, rh -> rh.register(name, entry));
+                delegate.updateReference(event);
+            }
+            List<NonNullConsumer<? super T>> callbacks = this.callbacks;
+            if (callbacks != null) {
+                long start = System.nanoTime();
+                this.callbacks = null;
+                callbacks.forEach(c -> c.accept(entry));
+                metrics.entryCallbacks(type, name, System.nanoTime() - start);
+            }
         }
 
         void addRegisterCallback(NonNullConsumer<? super T> callback) {
             Preconditions.checkNotNull(callback, "Callback must not be null");
+            List<NonNullConsumer<? super T>> callbacks = this.callbacks;
+            if (callbacks == null) {
+                this.callbacks = callbacks = new ArrayList<>(1);
+            }
             callbacks.add(callback);
+            callbackCount++;
+        }
+
+        /**
+         * Drop the entry factory, and with it the builder it captures, once the entry has been constructed.
+         */
+        void release() {
+            if (entry != null) {
+                creator = null;
+                callbacks = null;
+            }
+        }
+    }
+
+    /**
+     * A data generator in {@link #datagens}, dispatched by {@link #genData(ProviderType, RegistrateProvider)}.
+     */
+    private interface DataGenerator {
+
+        void generate(ProviderType<?> type, RegistrateProvider prov);
+    }
+
+    /**
+     * A single data generator callback and the entry it generates data for, if any. Every call to {@link AbstractRegistrate#setDataGenerator(String, ResourceKey, ProviderType, NonNullConsumer)}
+     * creates its own instance, so a callback shared between entries is still attributed to each of them.
+     */
+    private class EntryDataGenerator implements DataGenerator {
+
+        @Nullable
+        private final Pair<String, ResourceKey<? extends Registry<?>>> entry;
+        private final Consumer<? extends RegistrateProvider> cons;
+
+        EntryDataGenerator(@Nullable Pair<String, ResourceKey<? extends Registry<?>>> entry, Consumer<? extends RegistrateProvider> cons) {
+            this.entry = entry;
+            this.cons = cons;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void generate(ProviderType<?> type, RegistrateProvider prov) {
+            runDataGenerator(type, entry, () -> ((Consumer<RegistrateProvider>) cons).accept(prov));
+        }
+    }
+
+    /**
+     * Data generators of a family of entries registered through {@link AbstractRegistrate#variants(Iterable, NonNullFunction, NonNullBiFunction, NonNullUnaryOperator)}. Callbacks are stored as given,
+     * without a wrapper per entry, and are run by a single data generator per provider type.
+     */
+    private class VariantFamily {
+
+        private final Map<ProviderType<?>, Map<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullBiConsumer<?, ?>>> generators = new HashMap<>();
+
+        void put(Pair<String, ResourceKey<? extends Registry<?>>> entry, ProviderType<?> type, NonNullBiConsumer<?, ?> cons) {
+            Map<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullBiConsumer<?, ?>> forType = generators.get(type);
+            if (forType == null) {
+                Map<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullBiConsumer<?, ?>> entries = forType = new LinkedHashMap<>();
+                generators.put(type, forType);
+                datagens.put(type, (t, prov) -> generate(t, entries, prov));
+            }
+            forType.put(entry, cons);
+            familiesByEntry.put(entry, this);
+        }
+
+        void remove(Pair<String, ResourceKey<? extends Registry<?>>> entry, ProviderType<?> type) {
+            Map<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullBiConsumer<?, ?>> forType = generators.get(type);
+            if (forType != null) {
+                forType.remove(entry);
+            }
+        }
+
+        Stream<ProviderType<?>> getTypes(Pair<String, ResourceKey<? extends Registry<?>>> entry) {
+            return generators.entrySet().stream().filter(e -> e.getValue().containsKey(entry)).map(Map.Entry::getKey);
+        }
+
+        /**
+         * Runs the callbacks of all entries for a provider type, each attributed to its own entry like any other data generator.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void generate(ProviderType<?> type, Map<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullBiConsumer<?, ?>> entries, RegistrateProvider prov) {
+            entries.forEach((entry, cons) -> runDataGenerator(type, entry, () -> {
+                String name = entry.getLeft();
+                DataGenContext<?, ?> ctx = new DataGenContext(NonNullSupplier.of(get(name, (ResourceKey) entry.getRight())), name, new ResourceLocation(getModid(), name));
+                ((NonNullBiConsumer) cons).accept(ctx, prov);
+            }));
+        }
+    }
+
+    /**
+     * The registrations once frozen, both per registry and keyed by (name, registry), so that looking up a single entry is one hash lookup.
+     */
+    private class FrozenRegistrations {
+
+        final Map<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> byType;
+        final Map<Pair<String, ResourceKey<? extends Registry<?>>>, Registration<?, ?>> byKey;
+
+        FrozenRegistrations(Map<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> byType, Map<Pair<String, ResourceKey<? extends Registry<?>>>, Registration<?, ?>> byKey) {
+            this.byType = byType;
+            this.byKey = byKey;
         }
     }
 
@@ -172,15 +366,42 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     }
 
     private final Table<ResourceKey<? extends Registry<?>>, String, Registration<?, ?>> registrations = HashBasedTable.create();
+    /** Immutable copy of {@link #registrations}, which replaces it once registration is over. See {@link #freezeRegistrations()} */
+    @Nullable
+    private volatile FrozenRegistrations frozenRegistrations;
+    /** Memoized results of {@link #getAll(ResourceKey)} and {@link #getAllValues(ResourceKey)}, invalidated when a registration is added to the registry */
+    private final Map<ResourceKey<? extends Registry<?>>, List<? extends RegistryEntry<?>>> allEntries = new ConcurrentHashMap<>();
+    private final Map<ResourceKey<? extends Registry<?>>, List<?>> allValues = new ConcurrentHashMap<>();
     /** Expected to be emptied by the time registration occurs, is emptied by {@link #accept(String, ResourceKey, Builder, NonNullSupplier, NonNullFunction)} */
     private final Multimap<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullConsumer<?>> registerCallbacks = HashMultimap.create();
     /** Entry-less callbacks that are invoked after the registry type has completely finished */
     private final Multimap<ResourceKey<? extends Registry<?>>, Runnable> afterRegisterCallbacks = HashMultimap.create();
     private final Set<ResourceKey<? extends Registry<?>>> completedRegistrations = new HashSet<>();
-
-    private final Table<Pair<String, ResourceKey<? extends Registry<?>>>, ProviderType<?>, Consumer<? extends RegistrateProvider>> datagensByEntry = HashBasedTable.create();
-    private final ListMultimap<ProviderType<?>, @NonnullType NonNullConsumer<? extends RegistrateProvider>> datagens = ArrayListMultimap.create();
-    private final Multimap<ResourceKey<CreativeModeTab>, Consumer<CreativeModeTabModifier>> creativeModeTabModifiers = ArrayListMultimap.create();
+    /** Registries whose objects create their holder on construction, see {@link #markThreadSafe(String, ResourceKey)} */
+    private static final Set<ResourceKey<? extends Registry<?>>> INTRUSIVE_HOLDER_REGISTRIES = Set.of(Registries.BLOCK, Registries.ITEM, Registries.FLUID, Registries.ENTITY_TYPE, Registries.GAME_EVENT);
+
+    /** Entries whose factories may be invoked off-thread, see {@link #markThreadSafe(String, ResourceKey)} */
+    private final Set<Pair<String, ResourceKey<? extends Registry<?>>>> threadSafeFactories = new HashSet<>();
+    /** Entries which must be created after others, see {@link #addDependency(String, ResourceKey, String, ResourceKey)}. Guaranteed to be acyclic */
+    private final SetMultimap<Pair<String, ResourceKey<? extends Registry<?>>>, Pair<String, ResourceKey<? extends Registry<?>>>> dependencies = LinkedHashMultimap.create();
+
+    private final Table<Pair<String, ResourceKey<? extends Registry<?>>>, ProviderType<?>, DataGenerator> datagensByEntry = HashBasedTable.create();
+    private final ListMultimap<ProviderType<?>, DataGenerator> datagens = ArrayListMultimap.create();
+    /** The family of each entry registered via {@link #variants(Iterable, NonNullFunction, NonNullBiFunction, NonNullUnaryOperator)}, which holds its data generators. Only filled during datagen */
+    private final Map<Pair<String, ResourceKey<? extends Registry<?>>>, VariantFamily> familiesByEntry = new HashMap<>();
+    /** The family currently being registered, which receives all data generators set by builders */
+    @Nullable
+    private VariantFamily currentFamily;
+    /** Tag contents added by builders, drained once per tag by the tag providers rather than via a generator per entry */
+    private final Map<ProviderType<?>, Multimap<TagKey<?>, ResourceLocation>> tagsByType = new HashMap<>();
+    /** Set once {@link #tagsByType} has been released, after which only {@link #tagIndex} is kept. See {@link #onLoadComplete(FMLLoadCompleteEvent)} */
+    private boolean tagsReleased;
+    /** Lazily built from {@link #tagsByType}, reset whenever tag contents change */
+    @Nullable
+    private volatile TagIndex tagIndex;
+    private final ListMultimap<ResourceKey<CreativeModeTab>, Consumer<CreativeModeTabModifier>> creativeModeTabModifiers = ArrayListMultimap.create();
+    /** Recorded output of {@link #creativeModeTabModifiers}, keyed by tab and then by (feature flags, has permissions). Only used when {@link #cacheCreativeModeTabs} is set */
+    private final Map<ResourceKey<CreativeModeTab>, Map<Pair<FeatureFlagSet, Boolean>, List<Pair<ItemStack, CreativeModeTab.TabVisibility>>>> creativeModeTabCache = new HashMap<>();
     private ResourceKey<CreativeModeTab> defaultCreativeModeTab = CreativeModeTabs.SEARCH;
 
     private final NonNullSupplier<Boolean> doDatagen = NonNullSupplier.lazy(DatagenModLoader::isRunningDataGen);
@@ -194,6 +415,25 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     @Nullable
     private String currentName;
     private boolean skipErrors;
+    private boolean cacheCreativeModeTabs;
+    private boolean parallelConstruction;
+    private RegistrateMetrics metrics = RegistrateMetrics.NONE;
+    /**
+     * @return {@code true} if data providers may run concurrently, see {@link #parallelData(boolean)}
+     */
+    @Getter
+    private boolean parallelData;
+    /**
+     * @return {@code true} if lang files are written without intermediate copies, see {@link #streamLang(boolean)}
+     */
+    @Getter
+    private boolean streamLang;
+    /**
+     * @return The profiler for data generators, or {@code null} if {@link #profileData(boolean) profiling} is not enabled
+     */
+    @Getter
+    @Nullable
+    private RegistrateDataProfiler dataProfiler;
 
     /**
      * Construct a new Registrate for the given mod ID.
@@ -242,10 +482,13 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         bus.addListener(this::onBuildCreativeModeTabContents); // Fired multiple times when ever tabs need contents rebuilt (changing op tab perms for example)
         
         // Register events fire multiple times, so clean them up on common setup
-        OneTimeEventReceiver.addModListener(this, FMLCommonSetupEvent.class, $ -> {
+        OneTimeEventReceiver.addModListener(this, FMLCommonSetupEvent.class, event -> {
             OneTimeEventReceiver.unregister(this, onRegister, RegisterEvent.class);
             OneTimeEventReceiver.unregister(this, onRegisterLate, RegisterEvent.class);
+            // Common setup runs mods in parallel, and other mods may look up entries meanwhile, so freeze once that is over
+            event.enqueueWork(this::freezeRegistrations);
         });
+        OneTimeEventReceiver.addModListener(this, FMLLoadCompleteEvent.class, this::onLoadComplete);
 
         if (doDatagen.get()) {
             OneTimeEventReceiver.addModListener(this, GatherDataEvent.class, this::onData);
@@ -267,6 +510,21 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
             log.debug(DebugMarkers.REGISTER, "Skipping invalid registry with no supertype: " + event.getRegistryKey().location());
             return;
         }
+        registerEntries(type, event);
+    }
+
+    /**
+     * Construct the entries of a registry and run their register callbacks, as {@link #onRegister(RegisterEvent)} does, but without adding them to the registry, so their {@link RegistryEntry
+     * entries} are never bound. A {@link RegisterEvent} can only be created by Forge, so this lets tests drive registration outside of a running game.
+     *
+     * @param type
+     *            The registry whose entries to construct
+     */
+    void registerDetached(ResourceKey<? extends Registry<?>> type) {
+        registerEntries(type, null);
+    }
+
+    private void registerEntries(ResourceKey<? extends Registry<?>> type, @Nullable RegisterEvent event) {
         if (!registerCallbacks.isEmpty()) {
             registerCallbacks.asMap().forEach((k, v) -> log.warn("Found {} unused register callback(s) for entry {} [{}]. Was the entry ever registered?", v.size(), k.getLeft(), k.getRight().location()));
             registerCallbacks.clear();
@@ -274,15 +532,20 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
                 throw new IllegalStateException("Found unused register callbacks, see logs");
             }
         }
-        Map<String, Registration<?, ?>> registrationsForType = registrations.row(type);
+        Map<String, Registration<?, ?>> registrationsForType = getRegistrations(type);
         if (registrationsForType.size() > 0) {
             log.debug(DebugMarkers.REGISTER, "({}) Registering {} known objects of type {}", getModid(), registrationsForType.size(), type.location());
-            for (Entry<String, Registration<?, ?>> e : registrationsForType.entrySet()) {
+            long start = System.nanoTime();
+            Collection<Registration<?, ?>> ordered = dependencies.isEmpty() ? registrationsForType.values() : sortByDependencies(type, registrationsForType);
+            if (parallelConstruction) {
+                constructConcurrently(type, ordered);
+            }
+            for (Registration<?, ?> reg : ordered) {
                 try {
-                    e.getValue().register(event);
-                    log.debug(DebugMarkers.REGISTER, "Registered {} to registry {}", e.getValue().getName(), event.getRegistryKey().location());
+                    reg.register(event);
+                    log.debug(DebugMarkers.REGISTER, "Registered {} to registry {}", reg.getName(), type.location());
                 } catch (Exception ex) {
-                    String err = "Unexpected error while registering entry " + e.getValue().getName() + " to registry " + event.getRegistryKey().location();
+                    String err = "Unexpected error while registering entry " + reg.getName() + " to registry " + type.location();
                     if (skipErrors) {
                         log.error(DebugMarkers.REGISTER, err);
                     } else {
@@ -290,6 +553,82 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
                     }
                 }
             }
+            metrics.registryCompleted(type, registrationsForType.size(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Order the registrations of a registry such that every entry comes after the entries of the same registry it depends on. Entries without dependencies keep their relative order.
+     * <p>
+     * Also checks that every dependency is a known entry, and that dependencies in other registries have already been registered.
+     */
+    private List<Registration<?, ?>> sortByDependencies(ResourceKey<? extends Registry<?>> type, Map<String, Registration<?, ?>> registrationsForType) {
+        List<Registration<?, ?>> ret = new ArrayList<>(registrationsForType.size());
+        Set<String> visited = new HashSet<>();
+        // Iterative depth-first search, so that long dependency chains can not overflow the stack
+        Deque<Pair<String, Iterator<Pair<String, ResourceKey<? extends Registry<?>>>>>> stack = new ArrayDeque<>();
+        for (String root : registrationsForType.keySet()) {
+            if (!visited.add(root)) continue;
+            stack.push(Pair.of(root, dependencies.get(Pair.of(root, type)).iterator()));
+            while (!stack.isEmpty()) {
+                Pair<String, Iterator<Pair<String, ResourceKey<? extends Registry<?>>>>> top = stack.peek();
+                Iterator<Pair<String, ResourceKey<? extends Registry<?>>>> deps = top.getRight();
+                if (!deps.hasNext()) {
+                    stack.pop();
+                    ret.add(registrationsForType.get(top.getLeft()));
+                    continue;
+                }
+                Pair<String, ResourceKey<? extends Registry<?>>> dep = deps.next();
+                if (checkDependency(type, top.getLeft(), dep, registrationsForType) && visited.add(dep.getLeft())) {
+                    stack.push(Pair.of(dep.getLeft(), dependencies.get(Pair.of(dep.getLeft(), type)).iterator()));
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return {@code true} if the dependency is a known entry of the same registry, which must be registered first
+     */
+    private boolean checkDependency(ResourceKey<? extends Registry<?>> type, String name, Pair<String, ResourceKey<? extends Registry<?>>> dep, Map<String, Registration<?, ?>> registrationsForType) {
+        boolean sameType = dep.getRight().equals(type);
+        String err = null;
+        if (sameType ? !registrationsForType.containsKey(dep.getLeft()) : findRegistration(dep.getLeft(), dep.getRight()) == null) {
+            err = "Entry " + getModid() + ":" + name + " of type " + type.location() + " depends on unknown entry " + getModid() + ":" + dep.getLeft() + " of type " + dep.getRight().location();
+        } else if (!sameType && !completedRegistrations.contains(dep.getRight())) {
+            err = "Entry " + getModid() + ":" + name + " of type " + type.location() + " depends on " + getModid() + ":" + dep.getLeft() + " of type " + dep.getRight().location()
+                    + ", but that registry is registered later";
+        }
+        if (err == null) {
+            return sameType;
+        }
+        if (skipErrors) {
+            log.error(DebugMarkers.REGISTER, err);
+            return false;
+        }
+        throw new IllegalStateException(err);
+    }
+
+    private void constructConcurrently(ResourceKey<? extends Registry<?>> type, Collection<Registration<?, ?>> registrations) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Registration<?, ?> reg : registrations) {
+            Pair<String, ResourceKey<? extends Registry<?>>> key = Pair.of(reg.getName().getPath(), type);
+            // Entries with dependencies may look them up in their factory, so must wait for them to be registered
+            if (threadSafeFactories.contains(key) && !dependencies.containsKey(key)) {
+                tasks.add(() -> {
+                    try {
+                        reg.construct();
+                    } catch (Throwable t) {
+                        // The factory may have left partial state behind, so never run it again. The failure is reported in order during registration
+                        reg.failure = t;
+                    }
+                    return null;
+                });
+            }
+        }
+        if (tasks.size() > 1) {
+            log.debug(DebugMarkers.REGISTER, "({}) Constructing {} objects of type {} concurrently", getModid(), tasks.size(), type.location());
+            ForkJoinPool.commonPool().invokeAll(tasks);
         }
     }
 
@@ -303,8 +642,13 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     protected void onRegisterLate(RegisterEvent event) {
         ResourceKey<? extends Registry<?>> type = event.getRegistryKey();
         Collection<Runnable> callbacks = afterRegisterCallbacks.get(type);
-        callbacks.forEach(Runnable::run);
-        callbacks.clear();
+        if (!callbacks.isEmpty()) {
+            int count = callbacks.size();
+            long start = System.nanoTime();
+            callbacks.forEach(Runnable::run);
+            callbacks.clear();
+            metrics.lateCallbacks(type, count, System.nanoTime() - start);
+        }
         completedRegistrations.add(type);
     }
 
@@ -315,11 +659,138 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      *            The event
      */
     protected void onBuildCreativeModeTabContents(BuildCreativeModeTabContentsEvent event) {
-        var modifier = new CreativeModeTabModifier(event::getFlags, event::hasPermissions, event::accept);
+        buildCreativeModeTabContents(event.getTabKey(), event::getFlags, event::hasPermissions, event::accept);
+    }
 
-        creativeModeTabModifiers.forEach((key, value) -> {
-            if(event.getTabKey().equals(key)) value.accept(modifier);
+    /**
+     * Run the modifiers of a single tab, independent of the event so that dispatch can be benchmarked without a running game.
+     */
+    void buildCreativeModeTabContents(ResourceKey<CreativeModeTab> tab, Supplier<FeatureFlagSet> flags, BooleanSupplier hasPermissions, BiConsumer<ItemStack, CreativeModeTab.TabVisibility> output) {
+        // Only touch the modifiers for this tab, this event fires once per tab on every rebuild
+        List<Consumer<CreativeModeTabModifier>> modifiers = creativeModeTabModifiers.get(tab);
+        if (modifiers.isEmpty()) {
+            return;
+        }
+        if (!cacheCreativeModeTabs) {
+            var modifier = new CreativeModeTabModifier(flags, hasPermissions, output);
+            modifiers.forEach(m -> m.accept(modifier));
+            return;
+        }
+        Map<Pair<FeatureFlagSet, Boolean>, List<Pair<ItemStack, CreativeModeTab.TabVisibility>>> cacheForTab = creativeModeTabCache.computeIfAbsent(tab, $ -> new HashMap<>());
+        Pair<FeatureFlagSet, Boolean> key = Pair.of(flags.get(), hasPermissions.getAsBoolean());
+        List<Pair<ItemStack, CreativeModeTab.TabVisibility>> cached = cacheForTab.get(key);
+        if (cached != null) {
+            cached.forEach(p -> output.accept(p.getKey(), p.getValue()));
+            return;
+        }
+        List<Pair<ItemStack, CreativeModeTab.TabVisibility>> recorded = new ArrayList<>();
+        var modifier = new CreativeModeTabModifier(flags, hasPermissions, (stack, visibility) -> {
+            recorded.add(Pair.of(stack, visibility));
+            output.accept(stack, visibility);
         });
+        modifiers.forEach(m -> m.accept(modifier));
+        // Only store once every modifier has completed, so a failed build is never replayed
+        cacheForTab.put(key, recorded);
+    }
+
+    private static final Gson SNAPSHOT_GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Write a snapshot of everything this {@link AbstractRegistrate} has registered, as JSON lines. Each entry is written as one object, with its registry, name, builder class, data provider types,
+     * tags, number of register callbacks and construction time (in nanoseconds, 0 if not yet constructed). Each creative mode tab modified by this {@link AbstractRegistrate} is written as an
+     * additional object with the number of modifiers added to it.
+     * <p>
+     * Data provider types are only known while running datagen. Lines are sorted by registry and name, so snapshots of different versions can be compared with a plain diff.
+     *
+     * @param file
+     *            The file to write to, which is replaced if it exists
+     * @throws IOException
+     *             if the file could not be written
+     */
+    public void exportSnapshot(Path file) throws IOException {
+        List<Registration<?, ?>> all;
+        FrozenRegistrations frozen = frozenRegistrations;
+        if (frozen != null) {
+            all = new ArrayList<>(frozen.byKey.values());
+        } else {
+            synchronized (registrations) {
+                all = new ArrayList<>(registrations.values());
+            }
+        }
+        all.sort(Comparator.<Registration<?, ?>, ResourceLocation>comparing(r -> r.getType().location()).thenComparing(Registration::getName));
+
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Registration<?, ?> reg : all) {
+                String name = reg.getName().getPath();
+                JsonObject json = new JsonObject();
+                json.addProperty("kind", "entry");
+                json.addProperty("registry", reg.getType().location().toString());
+                json.addProperty("name", reg.getName().toString());
+                Class<?> builderType = reg.getBuilderType();
+                if (builderType != null) {
+                    json.addProperty("builder", builderType.getName());
+                }
+                JsonArray providers = new JsonArray();
+                Pair<String, ResourceKey<? extends Registry<?>>> key = Pair.of(name, reg.getType());
+                VariantFamily family = familiesByEntry.get(key);
+                Stream.concat(datagensByEntry.row(key).keySet().stream(), family == null ? Stream.<ProviderType<?>>empty() : family.getTypes(key))
+                        .map(RegistrateDataProvider::getTypeName)
+                        .filter(Objects::nonNull)
+                        .sorted()
+                        .forEach(providers::add);
+                json.add("providers", providers);
+                JsonArray tags = new JsonArray();
+                getTagsOf(name, reg.getType()).stream()
+                        .map(tag -> tag.location().toString())
+                        .sorted()
+                        .forEach(tags::add);
+                json.add("tags", tags);
+                json.addProperty("callbacks", reg.getCallbackCount());
+                json.addProperty("construct_nanos", reg.getConstructNanos());
+                writer.write(SNAPSHOT_GSON.toJson(json));
+                writer.newLine();
+            }
+            for (ResourceKey<CreativeModeTab> tab : creativeModeTabModifiers.keySet().stream().sorted(Comparator.comparing(ResourceKey::location)).toList()) {
+                JsonObject json = new JsonObject();
+                json.addProperty("kind", "creative_mode_tab");
+                json.addProperty("tab", tab.location().toString());
+                json.addProperty("modifiers", creativeModeTabModifiers.get(tab).size());
+                writer.write(SNAPSHOT_GSON.toJson(json));
+                writer.newLine();
+            }
+        }
+        log.info(DebugMarkers.REGISTER, "({}) Wrote registration snapshot of {} entries to {}", getModid(), all.size(), file);
+    }
+
+    /**
+     * Called once loading has completed, to release all state which is only needed during registration and setup. Can be overriden in custom implementations to release additional state, but
+     * <i>must</i> call {@code super}.
+     * <p>
+     * Outside of datagen, the tag contents added by builders are only kept in the form of the immutable index behind {@link #getEntriesInTag(TagKey)} and {@link #getTagsOf(String, ResourceKey)}, and
+     * tags can no longer be changed.
+     *
+     * @param event
+     *            The event
+     */
+    protected void onLoadComplete(FMLLoadCompleteEvent event) {
+        freezeRegistrations();
+        registerCallbacks.clear();
+        afterRegisterCallbacks.clear();
+        threadSafeFactories.clear();
+        dependencies.clear();
+        metrics = RegistrateMetrics.NONE;
+        if (!doDatagen.get()) {
+            synchronized (tagsByType) {
+                getTagIndex();
+                tagsByType.clear();
+                tagsReleased = true;
+            }
+        }
+        log.debug(DebugMarkers.REGISTER, "({}) Released registration state", getModid());
     }
 
     @Nullable
@@ -432,7 +903,58 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     @SuppressWarnings("unchecked")
     @Nullable
     private <R, T extends R> Registration<R, T> getRegistrationUnchecked(String name, ResourceKey<? extends Registry<R>> type) {
-        return (Registration<R, T>) registrations.get(type, name);
+        return (Registration<R, T>) findRegistration(name, type);
+    }
+
+    @Nullable
+    private Registration<?, ?> findRegistration(String name, ResourceKey<? extends Registry<?>> type) {
+        FrozenRegistrations frozen = frozenRegistrations;
+        if (frozen == null) {
+            synchronized (registrations) {
+                frozen = frozenRegistrations;
+                if (frozen == null) {
+                    return registrations.get(type, name);
+                }
+            }
+        }
+        return frozen.byKey.get(Pair.of(name, type));
+    }
+
+    private Map<String, Registration<?, ?>> getRegistrations(ResourceKey<? extends Registry<?>> type) {
+        FrozenRegistrations frozen = frozenRegistrations;
+        if (frozen == null) {
+            synchronized (registrations) {
+                frozen = frozenRegistrations;
+                if (frozen == null) {
+                    // Copied, as the table is cleared once registrations are frozen
+                    return new LinkedHashMap<>(registrations.row(type));
+                }
+            }
+        }
+        return frozen.byType.getOrDefault(type, Collections.emptyMap());
+    }
+
+    /**
+     * Called on {@link FMLCommonSetupEvent}, once all registries have been registered. Compacts all registrations into immutable maps, and releases the entry factories (and with them, the
+     * builders) of all constructed entries. Runs as enqueued work, so on the main thread once the parallel setup of all mods is over, and again on {@link FMLLoadCompleteEvent}, which does nothing
+     * if already frozen.
+     * <p>
+     * Further entries can not be added after this point.
+     */
+    protected void freezeRegistrations() {
+        synchronized (registrations) {
+            if (frozenRegistrations != null) return;
+            ImmutableMap.Builder<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> byType = ImmutableMap.builder();
+            ImmutableMap.Builder<Pair<String, ResourceKey<? extends Registry<?>>>, Registration<?, ?>> byKey = ImmutableMap.builder();
+            registrations.rowMap().forEach((type, row) -> {
+                row.values().forEach(Registration::release);
+                byType.put(type, ImmutableMap.copyOf(row));
+                row.forEach((name, reg) -> byKey.put(Pair.of(name, type), reg));
+            });
+            frozenRegistrations = new FrozenRegistrations(byType.build(), byKey.build());
+            registrations.clear();
+        }
+        log.debug(DebugMarkers.REGISTER, "({}) Froze registrations", getModid());
     }
 
     private <R, T extends R> Registration<R, T> getRegistration(String name, ResourceKey<? extends Registry<R>> type) {
@@ -447,6 +969,8 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * Gather a collection of all entries registered for a certain registry
      * <p>
      * Note that this can be called before registration is complete, but the {@link RegistryEntry entries} will be empty at that time.
+     * <p>
+     * The returned collection is unmodifiable, and is shared between calls until a new entry is added to the registry.
      * 
      * @param <R>
      *            Registry type
@@ -456,7 +980,30 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     @SuppressWarnings({ "null", "unchecked" })
     public <R> Collection<RegistryEntry<R>> getAll(ResourceKey<? extends Registry<R>> type) {
-        return registrations.row(type).values().stream().map(r -> (RegistryEntry<R>) r.getDelegate()).collect(Collectors.toList());
+        return (Collection<RegistryEntry<R>>) allEntries.computeIfAbsent(type, t -> getRegistrations(t).values().stream()
+                .map(r -> (RegistryEntry<R>) r.getDelegate())
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Gather a list of all objects registered for a certain registry, in the same order as {@link #getAll(ResourceKey)}.
+     * <p>
+     * Once the registry has been registered (see {@link #isRegistered(ResourceKey)}), the returned list is shared between calls until a new entry is added to the registry.
+     *
+     * @param <R>
+     *            Registry type
+     * @param type
+     *            A {@link ResourceKey} for the registry in question
+     * @return An unmodifiable list of all objects in the given registry which are known to this {@link AbstractRegistrate} object
+     * @throws NullPointerException
+     *             if any of the entries is not yet present
+     */
+    @SuppressWarnings({ "null", "unchecked" })
+    public <R> List<R> getAllValues(ResourceKey<? extends Registry<R>> type) {
+        if (!isRegistered(type)) {
+            return getAll(type).stream().map(RegistryEntry::get).collect(Collectors.toUnmodifiableList());
+        }
+        return (List<R>) allValues.computeIfAbsent(type, t -> getAll(type).stream().map(RegistryEntry::get).collect(Collectors.toUnmodifiableList()));
     }
 
     /**
@@ -570,12 +1117,56 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     public <P extends RegistrateProvider, R> S setDataGenerator(String entry, ResourceKey<? extends Registry<R>> registryType, ProviderType<? extends P> type, NonNullConsumer<? extends P> cons) {
         if (!doDatagen.get()) return self();
-        @SuppressWarnings("null")
-        Consumer<? extends RegistrateProvider> existing = datagensByEntry.put(Pair.of(entry, registryType), type, cons);
+        Pair<String, ResourceKey<? extends Registry<?>>> key = Pair.of(entry, registryType);
+        removeDataGenerator(key, type);
+        DataGenerator generator = new EntryDataGenerator(key, cons);
+        datagensByEntry.put(key, type, generator);
+        datagens.put(type, generator);
+        return self();
+    }
+
+    /**
+     * Mostly internal, sets the data generator for the entry of a builder, which is passed the {@link DataGenContext} of the entry. This will replace an existing data gen callback if it exists.
+     * <p>
+     * While a family is registered via {@link #variants(Iterable, NonNullFunction, NonNullBiFunction, NonNullUnaryOperator)}, the callback is stored as is, and the whole family shares one data
+     * generator per provider type. Otherwise, it is wrapped and set via {@link #setDataGenerator(Builder, ProviderType, NonNullConsumer)}.
+     *
+     * @param <P>
+     *            The type of provider
+     * @param <R>
+     *            The registry type
+     * @param <T>
+     *            The entry type
+     * @param builder
+     *            The builder for the entry
+     * @param type
+     *            The {@link ProviderType} to generate data for
+     * @param cons
+     *            A callback to be invoked during data generation
+     * @return this {@link AbstractRegistrate}
+     */
+    public <P extends RegistrateProvider, R, T extends R> S setContextDataGenerator(Builder<R, T, ?, ?> builder, ProviderType<? extends P> type, NonNullBiConsumer<DataGenContext<R, T>, P> cons) {
+        if (!doDatagen.get()) return self();
+        VariantFamily family = currentFamily;
+        if (family != null) {
+            Pair<String, ResourceKey<? extends Registry<?>>> key = Pair.of(builder.getName(), builder.getRegistryKey());
+            removeDataGenerator(key, type);
+            family.put(key, type, cons);
+            return self();
+        }
+        NonNullConsumer<P> gen = prov -> cons.accept(DataGenContext.from(builder), prov);
+        return this.<P, R>setDataGenerator(builder, type, gen);
+    }
+
+    private void removeDataGenerator(Pair<String, ResourceKey<? extends Registry<?>>> key, ProviderType<?> type) {
+        DataGenerator existing = datagensByEntry.remove(key, type);
         if (existing != null) {
             datagens.remove(type, existing);
         }
-        return addDataGenerator(type, cons);
+        VariantFamily family = familiesByEntry.get(key);
+        if (family != null) {
+            family.remove(key, type);
+        }
     }
 
     /**
@@ -593,11 +1184,153 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     public <T extends RegistrateProvider> S addDataGenerator(ProviderType<? extends T> type, NonNullConsumer<? extends T> cons) {
         if (doDatagen.get()) {
-            datagens.put(type, cons);
+            datagens.put(type, new EntryDataGenerator(null, cons));
         }
         return self();
     }
 
+    /**
+     * Add an element to a tag, to be generated by the tag provider of the given type. Adding the same element to a tag multiple times has no further effect.
+     * <p>
+     * Builders should use {@link AbstractBuilder#tag(ProviderType, TagKey...)} instead.
+     *
+     * @param <R>
+     *            The registry type of the tag
+     * @param type
+     *            The {@link ProviderType} of the tag provider
+     * @param tag
+     *            The tag to add to
+     * @param id
+     *            The ID of the element to add
+     * @return this {@link AbstractRegistrate}
+     */
+    public <R> S addToTag(ProviderType<? extends RegistrateTagsProvider<R>> type, TagKey<R> tag, ResourceLocation id) {
+        // Guarded by the same lock as the index, so a concurrent index build can never miss this change
+        synchronized (tagsByType) {
+            Preconditions.checkState(!tagsReleased, "Cannot add to tag %s after loading has completed", tag.location());
+            if (tagsByType.computeIfAbsent(type, $ -> LinkedHashMultimap.create()).put(tag, id)) {
+                tagIndex = null;
+            }
+        }
+        return self();
+    }
+
+    /**
+     * Remove an element previously added to a tag via {@link #addToTag(ProviderType, TagKey, ResourceLocation)}.
+     *
+     * @param <R>
+     *            The registry type of the tag
+     * @param type
+     *            The {@link ProviderType} of the tag provider
+     * @param tag
+     *            The tag to remove from
+     * @param id
+     *            The ID of the element to remove
+     * @return this {@link AbstractRegistrate}
+     */
+    public <R> S removeFromTag(ProviderType<? extends RegistrateTagsProvider<R>> type, TagKey<R> tag, ResourceLocation id) {
+        synchronized (tagsByType) {
+            Preconditions.checkState(!tagsReleased, "Cannot remove from tag %s after loading has completed", tag.location());
+            Multimap<TagKey<?>, ResourceLocation> tags = tagsByType.get(type);
+            if (tags != null && tags.remove(tag, id)) {
+                tagIndex = null;
+            }
+        }
+        return self();
+    }
+
+    @Value
+    private static class TagIndex {
+        ImmutableSetMultimap<TagKey<?>, String> entriesByTag;
+        ImmutableSetMultimap<Pair<String, ResourceKey<? extends Registry<?>>>, TagKey<?>> tagsByEntry;
+    }
+
+    private TagIndex getTagIndex() {
+        TagIndex ret = tagIndex;
+        if (ret == null) {
+            synchronized (tagsByType) {
+                ret = tagIndex;
+                if (ret == null) {
+                    ImmutableSetMultimap.Builder<TagKey<?>, String> entriesByTag = ImmutableSetMultimap.builder();
+                    ImmutableSetMultimap.Builder<Pair<String, ResourceKey<? extends Registry<?>>>, TagKey<?>> tagsByEntry = ImmutableSetMultimap.builder();
+                    for (Multimap<TagKey<?>, ResourceLocation> tags : tagsByType.values()) {
+                        tags.forEach((tag, id) -> {
+                            if (id.getNamespace().equals(getModid())) {
+                                entriesByTag.put(tag, id.getPath());
+                                tagsByEntry.put(Pair.of(id.getPath(), tag.registry()), tag);
+                            }
+                        });
+                    }
+                    ret = tagIndex = new TagIndex(entriesByTag.build(), tagsByEntry.build());
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Get the names of all entries of this registrate which have been added to the given tag, via {@link AbstractBuilder#tag(ProviderType, TagKey...)} or
+     * {@link #addToTag(ProviderType, TagKey, ResourceLocation)}. Tags added by custom data generators are not included.
+     * <p>
+     * The index backing this method is built once on first query and reused until tag contents change, so lookups are constant time.
+     *
+     * @param tag
+     *            The tag to query
+     * @return An immutable set of entry names, which is empty if no entries have been added to the tag
+     */
+    public Set<String> getEntriesInTag(TagKey<?> tag) {
+        return getTagIndex().getEntriesByTag().get(tag);
+    }
+
+    /**
+     * Get all tags an entry of this registrate has been added to, via {@link AbstractBuilder#tag(ProviderType, TagKey...)} or
+     * {@link #addToTag(ProviderType, TagKey, ResourceLocation)}. Tags added by custom data generators are not included.
+     *
+     * @param <R>
+     *            The registry type of the entry
+     * @param name
+     *            The name of the entry
+     * @param type
+     *            The registry of the entry
+     * @return An immutable set of tags, which is empty if the entry has not been added to any tags
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <R> Set<TagKey<R>> getTagsOf(String name, ResourceKey<? extends Registry<R>> type) {
+        return (Set) getTagIndex().getTagsByEntry().get(Pair.of(name, type));
+    }
+
+    /**
+     * Get an immutable view of all tag contents added via {@link AbstractBuilder#tag(ProviderType, TagKey...)} or {@link #addToTag(ProviderType, TagKey, ResourceLocation)},
+     * mapping each tag to the names of the entries within it.
+     * <p>
+     * Entry names are only unique within a registry, so to get the tags of an entry use {@link #getTagsOf(String, ResourceKey)} rather than inverting this map.
+     *
+     * @return An immutable multimap of tags to entry names
+     */
+    public ImmutableSetMultimap<TagKey<?>, String> getTaggedEntries() {
+        return getTagIndex().getEntriesByTag();
+    }
+
+    /**
+     * For internal use, adds all elements added via {@link #addToTag(ProviderType, TagKey, ResourceLocation)} to the given tag provider, using a single {@link TagsProvider.TagAppender} per tag.
+     *
+     * @param <R>
+     *            The registry type of the tags
+     * @param type
+     *            The type of provider to run
+     * @param prov
+     *            The provider
+     */
+    @SuppressWarnings("unchecked")
+    public <R> void genTags(ProviderType<? extends RegistrateTagsProvider<R>> type, RegistrateTagsProvider<R> prov) {
+        Multimap<TagKey<?>, ResourceLocation> tags = tagsByType.get(type);
+        if (tags == null) return;
+        tags.asMap().forEach((tag, ids) -> {
+            TagsProvider.TagAppender<R> appender = prov.addTag((TagKey<R>) tag);
+            ids.forEach(id -> appender.add(TagEntry.element(id)));
+        });
+    }
+
     private final NonNullSupplier<List<Pair<String, String>>> extraLang = NonNullSupplier.lazy(() -> {
         final List<Pair<String, String>> ret = new ArrayList<>();
         addDataGenerator(ProviderType.LANG, prov -> ret.forEach(p -> prov.add(p.getKey(), p.getValue())));
@@ -652,16 +1385,6 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return Component.translatable(key);
     }
 
-    @SuppressWarnings("null")
-    private Optional<Pair<String, ResourceKey<? extends Registry<?>>>> getEntryForGenerator(ProviderType<?> type, NonNullConsumer<? extends RegistrateProvider> generator) {
-        for (Map.Entry<Pair<String, ResourceKey<? extends Registry<?>>>, Consumer<? extends RegistrateProvider>> e : datagensByEntry.column(type).entrySet()) {
-            if (e.getValue() == generator) {
-                return Optional.of(e.getKey());
-            }
-        }
-        return Optional.empty();
-    }
-
     /**
      * For internal use, calls upon registered data generators to actually create their data.
      *
@@ -672,38 +1395,90 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * @param gen
      *            The provider
      */
-    @SuppressWarnings("unchecked")
     public <T extends RegistrateProvider> void genData(ProviderType<? extends T> type, T gen) {
         if (!doDatagen.get()) return;
-        datagens.get(type).forEach(cons -> {
-            Optional<Pair<String, ResourceKey<? extends Registry<?>>>> entry = null;
-            if (log.isEnabled(Level.DEBUG, DebugMarkers.DATA)) {
-                entry = getEntryForGenerator(type, cons);
-                if (entry.isPresent()) {
-                    log.debug(DebugMarkers.DATA, "Generating data of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
-                } else {
-                    log.debug(DebugMarkers.DATA, "Generating unassociated data of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
-                }
+        for (DataGenerator generator : datagens.get(type)) {
+            generator.generate(type, gen);
+        }
+    }
+
+    /**
+     * Run a single data generator callback, with debug logging, error handling and profiling attributed to the given entry.
+     */
+    private void runDataGenerator(ProviderType<?> type, @Nullable Pair<String, ResourceKey<? extends Registry<?>>> entry, Runnable generator) {
+        RegistrateDataProfiler profiler = this.dataProfiler;
+        long start = System.nanoTime();
+        if (log.isEnabled(Level.DEBUG, DebugMarkers.DATA)) {
+            if (entry != null) {
+                log.debug(DebugMarkers.DATA, "Generating data of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.getLeft(), entry.getRight().location());
+            } else {
+                log.debug(DebugMarkers.DATA, "Generating unassociated data of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
             }
-            try {
-                ((Consumer<T>) cons).accept(gen);
-            } catch (Exception e) {
-                if (entry == null) {
-                    entry = getEntryForGenerator(type, cons);
-                }
-                Message err;
-                if (entry.isPresent()) {
-                    err = log.getMessageFactory().newMessage("Unexpected error while running data generator of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
-                } else {
-                    err = log.getMessageFactory().newMessage("Unexpected error while running unassociated data generator of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
-                }
-                if (skipErrors) {
-                    log.error(err);
-                } else {
-                    throw new RuntimeException(err.getFormattedMessage(), e);
-                }
+        }
+        try {
+            generator.run();
+        } catch (Exception e) {
+            Message err;
+            if (entry != null) {
+                err = log.getMessageFactory().newMessage("Unexpected error while running data generator of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.getLeft(), entry.getRight().location());
+            } else {
+                err = log.getMessageFactory().newMessage("Unexpected error while running unassociated data generator of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
             }
-        });
+            if (skipErrors) {
+                log.error(err, e);
+            } else {
+                throw new RuntimeException(err.getFormattedMessage(), e);
+            }
+        }
+        if (profiler != null) {
+            profiler.record(type, entry, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Allow the data providers of this {@link AbstractRegistrate} to run concurrently during datagen. Providers are run on the background executor, and a provider which uses another during its
+     * creation (via the {@code existing} map passed to {@link ProviderType#create(AbstractRegistrate, GatherDataEvent, Map)}) will only start once that provider has finished.
+     * <p>
+     * Only the recipe, advancement, loot table and lang providers run concurrently with the others. The tag, model, blockstate and generic providers all record their output in the same
+     * {@link net.minecraftforge.common.data.ExistingFileHelper ExistingFileHelper}, which is not thread safe, so they run one after another, as does any provider type not defined by Registrate.
+     * <p>
+     * Data generator callbacks for different provider types may then be invoked concurrently, so they must not share mutable state across types. <strong>This mode is unsafe for third-party
+     * providers</strong> whose data generators touch state shared with the built-in recipe, advancement, loot table or lang providers, or with their callbacks.
+     *
+     * @param parallelData
+     *            {@code true} to run independent data providers concurrently
+     * @return this {@link AbstractRegistrate}
+     */
+    public S parallelData(boolean parallelData) {
+        this.parallelData = parallelData;
+        return self();
+    }
+
+    /**
+     * Write lang files by streaming the sorted translations straight to JSON. The en_us translations are kept in a single map, and the en_ud values are generated while writing, rather than keeping
+     * a second full copy of every translation and building a JSON tree for each file. The output is identical either way.
+     *
+     * @param streamLang
+     *            {@code true} to stream lang files
+     * @return this {@link AbstractRegistrate}
+     */
+    public S streamLang(boolean streamLang) {
+        this.streamLang = streamLang;
+        return self();
+    }
+
+    /**
+     * Enable profiling of data generators. When enabled, the time taken by each generator is recorded and attributed to its entry and {@link ProviderType}, and a report is written alongside the
+     * datagen output once generation completes. Has no effect outside of datagen.
+     *
+     * @param profileData
+     *            {@code true} to profile data generators
+     * @return this {@link AbstractRegistrate}
+     * @see RegistrateDataProfiler
+     */
+    public S profileData(boolean profileData) {
+        this.dataProfiler = profileData && doDatagen.get() ? new RegistrateDataProfiler() : null;
+        return self();
     }
 
     /**
@@ -724,6 +1499,132 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return self();
     }
 
+    /**
+     * Enable concurrent construction of entries during registration. Only entries marked via {@link #markThreadSafe(String, ResourceKey)} (or {@link Builder#threadSafe()}) are affected.
+     * <p>
+     * When enabled, the marked entries of a registry are all constructed on the {@link ForkJoinPool#commonPool() common pool} before any of them are registered. Registration itself, as well as all
+     * register callbacks, still happens on the event thread in the usual order.
+     * <p>
+     * If a factory throws off-thread, it is not run again. The error is reported when the entry is registered, the same way as any other registration error.
+     * <p>
+     * Entries of registries which use intrusive holders (such as blocks and items) can never be marked, see {@link #markThreadSafe(String, ResourceKey)}.
+     *
+     * @param parallelConstruction
+     *            {@code true} to construct marked entries concurrently
+     * @return this {@link AbstractRegistrate}
+     */
+    public S parallelConstruction(boolean parallelConstruction) {
+        this.parallelConstruction = parallelConstruction;
+        return self();
+    }
+
+    /**
+     * Set the listener which receives timings for entry construction, register callbacks, and whole registries.
+     *
+     * @param metrics
+     *            The listener, or {@link RegistrateMetrics#NONE} to disable
+     * @return this {@link AbstractRegistrate}
+     */
+    public S metrics(RegistrateMetrics metrics) {
+        this.metrics = metrics;
+        return self();
+    }
+
+    /**
+     * Collect registration timings with the built-in {@link RegistrateMetrics.Aggregator}, and log the slowest registries, entry factories and entry callbacks once loading completes.
+     *
+     * @param topN
+     *            The number of registries, factories and callbacks to include in each section of the report
+     * @return this {@link AbstractRegistrate}
+     */
+    public S collectMetrics(int topN) {
+        RegistrateMetrics.Aggregator aggregator = new RegistrateMetrics.Aggregator(getModid(), topN);
+        OneTimeEventReceiver.addModListener(this, FMLLoadCompleteEvent.class, $ -> aggregator.report());
+        return metrics(aggregator);
+    }
+
+    /**
+     * Mark the factory of a certain entry as safe to invoke from any thread. Has no effect unless {@link #parallelConstruction(boolean)} is enabled.
+     * <p>
+     * Objects of registries with intrusive holders (blocks, items, fluids, entity types and game events) create their holder in their constructor, which writes to the shared, non thread-safe
+     * registry. Such entries can not be constructed concurrently, and are rejected.
+     *
+     * @param <R>
+     *            Registry type
+     * @param name
+     *            The name of the entry
+     * @param registryType
+     *            A {@link ResourceKey} for the registry in question
+     * @return this {@link AbstractRegistrate}
+     * @throws IllegalArgumentException
+     *             if the registry uses intrusive holders
+     */
+    public <R> S markThreadSafe(String name, ResourceKey<? extends Registry<R>> registryType) {
+        if (INTRUSIVE_HOLDER_REGISTRIES.contains(registryType)) {
+            throw new IllegalArgumentException("Entry " + getModid() + ":" + name + " of type " + registryType.location() + " can not be constructed concurrently, as its registry uses intrusive holders");
+        }
+        threadSafeFactories.add(Pair.of(name, registryType));
+        return self();
+    }
+
+    /**
+     * Declare that an entry depends on another, so that the dependency is created and registered first. Only affects ordering between entries of this {@link AbstractRegistrate}; if the dependency is
+     * in a different registry, that registry must be registered before the registry of the entry, or an error is raised at register time. The dependency must also be an entry of this
+     * {@link AbstractRegistrate}, or an error is raised at register time.
+     * <p>
+     * Builders should use {@link Builder#dependsOn(String, ResourceKey)} instead.
+     *
+     * @param name
+     *            The name of the entry
+     * @param type
+     *            The registry of the entry
+     * @param dependencyName
+     *            The name of the entry it depends on
+     * @param dependencyType
+     *            The registry of the entry it depends on
+     * @return this {@link AbstractRegistrate}
+     * @throws IllegalArgumentException
+     *             if the dependency would create a cycle
+     */
+    public S addDependency(String name, ResourceKey<? extends Registry<?>> type, String dependencyName, ResourceKey<? extends Registry<?>> dependencyType) {
+        Pair<String, ResourceKey<? extends Registry<?>>> entry = Pair.of(name, type);
+        Pair<String, ResourceKey<? extends Registry<?>>> dependency = Pair.of(dependencyName, dependencyType);
+        List<Pair<String, ResourceKey<? extends Registry<?>>>> cycle = findDependencyPath(dependency, entry);
+        if (cycle != null) {
+            cycle.add(0, entry);
+            throw new IllegalArgumentException("Dependency cycle: " + cycle.stream().map(p -> p.getLeft() + " [" + p.getRight().location() + "]").collect(Collectors.joining(" -> ")));
+        }
+        dependencies.put(entry, dependency);
+        return self();
+    }
+
+    @Nullable
+    private List<Pair<String, ResourceKey<? extends Registry<?>>>> findDependencyPath(Pair<String, ResourceKey<? extends Registry<?>>> from, Pair<String, ResourceKey<? extends Registry<?>>> to) {
+        // Iterative depth-first search, remembering how each entry was reached to rebuild the path
+        Map<Pair<String, ResourceKey<? extends Registry<?>>>, Pair<String, ResourceKey<? extends Registry<?>>>> reachedFrom = new HashMap<>();
+        Deque<Pair<String, ResourceKey<? extends Registry<?>>>> stack = new ArrayDeque<>();
+        reachedFrom.put(from, from);
+        stack.push(from);
+        while (!stack.isEmpty()) {
+            Pair<String, ResourceKey<? extends Registry<?>>> current = stack.pop();
+            if (current.equals(to)) {
+                List<Pair<String, ResourceKey<? extends Registry<?>>>> ret = new ArrayList<>();
+                ret.add(current);
+                while (!current.equals(from)) {
+                    current = reachedFrom.get(current);
+                    ret.add(0, current);
+                }
+                return ret;
+            }
+            for (Pair<String, ResourceKey<? extends Registry<?>>> next : dependencies.get(current)) {
+                if (reachedFrom.putIfAbsent(next, current) == null) {
+                    stack.push(next);
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Begin a new object, this is typically used at the beginning of a builder chain. The given name will be used until this method is called again. This makes it simple to create multiple entries
      * with the same name, as is often the case with blocks/items, items/entities, and blocks/TEs.
@@ -766,6 +1667,28 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     public S modifyCreativeModeTab(ResourceKey<CreativeModeTab> creativeModeTab, Consumer<CreativeModeTabModifier> modifier) {
         creativeModeTabModifiers.put(creativeModeTab, modifier);
+        creativeModeTabCache.remove(creativeModeTab);
+        return self();
+    }
+
+    /**
+     * Enable caching of the contents added to each {@link CreativeModeTab} by this {@link AbstractRegistrate}.
+     * <p>
+     * When enabled, the stacks emitted by the modifiers for a tab are recorded the first time the tab is built for a given set of {@link FeatureFlagSet feature flags} and operator permissions, and
+     * are replayed directly on later rebuilds with the same state, without invoking the modifiers again. This means the modifiers must be deterministic for a given flag set and permission state, and
+     * the recorded {@link ItemStack} instances are reused between rebuilds.
+     * <p>
+     * The cache for a tab is discarded whenever a new modifier is added to it via {@link #modifyCreativeModeTab(ResourceKey, Consumer)}.
+     *
+     * @param cacheCreativeModeTabs
+     *            {@code true} to cache creative tab contents
+     * @return this {@link AbstractRegistrate}
+     */
+    public S cacheCreativeModeTabs(boolean cacheCreativeModeTabs) {
+        this.cacheCreativeModeTabs = cacheCreativeModeTabs;
+        if (!cacheCreativeModeTabs) {
+            creativeModeTabCache.clear();
+        }
         return self();
     }
 
@@ -859,6 +1782,58 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return factory.apply(this::accept);
     }
 
+    /**
+     * Register a family of similar entries in one pass, e.g. colored variants of a block. Each variant gets its own builder from {@code factory}, which is then configured by the shared
+     * {@code template} and registered.
+     * <p>
+     * While running datagen, data generator callbacks set on the builders of the family (via {@link Builder#setData(ProviderType, NonNullBiConsumer)} and the helpers built on it) are not wrapped per
+     * entry. Each callback is stored once per entry as given, so a callback shared by the template is a single object for the whole family, and the family adds one data generator per provider type
+     * instead of one per entry. Generators set for an entry afterwards still replace the family's callback for that entry.
+     *
+     * <pre>
+     * {@code
+     * public static final Map<DyeColor, RegistryEntry<Block>> COLORED_BRICKS = REGISTRATE.variants(Arrays.asList(DyeColor.values()),
+     *         color -> color.getSerializedName() + "_bricks",
+     *         (name, color) -> REGISTRATE.block(name, Block::new).properties(p -> p.mapColor(color)),
+     *         b -> b.tag(BlockTags.MINEABLE_WITH_PICKAXE).simpleItem());
+     * }
+     * </pre>
+     *
+     * @param <V>
+     *            Variant type
+     * @param <R>
+     *            Registry type
+     * @param <T>
+     *            Entry type
+     * @param <S2>
+     *            Builder type
+     * @param variants
+     *            The variants to register an entry for
+     * @param naming
+     *            Provides the entry name for each variant
+     * @param factory
+     *            Creates the builder for a variant, given its name and the variant
+     * @param template
+     *            Configuration applied to the builder of every variant before it is registered
+     * @return An immutable map of each variant to its {@link RegistryEntry}, in iteration order of {@code variants}. Use e.g. {@link com.tterrag.registrate.util.entry.BlockEntry#cast(RegistryEntry) BlockEntry.cast} to get typed entries.
+     */
+    public <V, R, T extends R, S2 extends Builder<R, T, ?, S2>> Map<V, RegistryEntry<T>> variants(Iterable<? extends V> variants, NonNullFunction<? super V, String> naming,
+            NonNullBiFunction<String, ? super V, S2> factory, NonNullUnaryOperator<S2> template) {
+        VariantFamily previous = currentFamily;
+        if (doDatagen.get()) {
+            currentFamily = new VariantFamily();
+        }
+        try {
+            ImmutableMap.Builder<V, RegistryEntry<T>> ret = ImmutableMap.builder();
+            for (V variant : variants) {
+                ret.put(variant, template.apply(factory.apply(naming.apply(variant), variant)).register());
+            }
+            return ret.build();
+        } finally {
+            currentFamily = previous;
+        }
+    }
+
     /**
      * Factory method to accept a completed builder and add it to the registration queue.
      * <p>
@@ -881,14 +1856,25 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * @return A {@link RegistryEntry} that will hold the created entry after registration is complete
      */
     protected <R, T extends R> RegistryEntry<T> accept(String name, ResourceKey<? extends Registry<R>> type, Builder<R, T, ?, ?> builder, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
-        Registration<R, T> reg = new Registration<>(new ResourceLocation(modid, name), type, creator, entryFactory);
+        if (frozenRegistrations != null) {
+            throw new IllegalStateException("Cannot register entry " + getModid() + ":" + name + " of type " + type.location() + " after registration has finished");
+        }
+        Registration<R, T> reg = new Registration<>(new ResourceLocation(modid, name), type, builder == null ? null : builder.getClass(), creator, entryFactory);
         log.debug(DebugMarkers.REGISTER, "Captured registration for entry {}:{} of type {}", getModid(), name, type.location());
         registerCallbacks.removeAll(Pair.of(name, type)).forEach(callback -> {
             @SuppressWarnings({ "unchecked", "null" })
             @Nonnull NonNullConsumer<? super T> unsafeCallback = (NonNullConsumer<? super T>) callback;
             reg.addRegisterCallback(unsafeCallback);
         });
-        registrations.put(type, name, reg);
+        synchronized (registrations) {
+            // Checked again, registrations may have been frozen from another thread meanwhile
+            if (frozenRegistrations != null) {
+                throw new IllegalStateException("Cannot register entry " + getModid() + ":" + name + " of type " + type.location() + " after registration has finished");
+            }
+            registrations.put(type, name, reg);
+        }
+        allEntries.remove(type);
+        allValues.remove(type);
         return reg.getDelegate();
     }
 
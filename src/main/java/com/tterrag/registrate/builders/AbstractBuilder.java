@@ -1,7 +1,5 @@
 package com.tterrag.registrate.builders;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.providers.ProviderType;
 import com.tterrag.registrate.providers.RegistrateLangProvider;
@@ -19,12 +17,10 @@ import net.minecraft.core.Registry;
 import net.minecraft.data.tags.TagsProvider;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.TagEntry;
 import net.minecraft.tags.TagKey;
 import net.minecraftforge.common.util.NonNullFunction;
 import net.minecraftforge.registries.RegistryObject;
 
-import java.util.Arrays;
 
 /**
  * Base class which most builders should extend, instead of implementing [@link {@link Builder} directly.
@@ -55,8 +51,6 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
     @Getter(onMethod_ = {@Override})
     private final ResourceKey<Registry<R>> registryKey;
 
-    private final Multimap<ProviderType<? extends RegistrateTagsProvider<?>>, TagKey<?>> tagsByType = HashMultimap.create();
-
     /** A supplier for the entry that will discard the reference to this builder after it is resolved */
     private final LazyRegistryEntry<T> safeSupplier = new LazyRegistryEntry<>(this);
 
@@ -94,13 +88,10 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
     @SuppressWarnings("unchecked")
     @SafeVarargs
     public final <TP extends TagsProvider<R> & RegistrateTagsProvider<R>> S tag(ProviderType<? extends TP> type, TagKey<R>... tags) {
-        if (!tagsByType.containsKey(type)) {
-            setData(type, (ctx, prov) -> tagsByType.get(type).stream()
-                    .map(t -> (TagKey<R>) t)
-                    .map(prov::addTag)
-                    .forEach(b -> b.add(TagEntry.element(new ResourceLocation(getOwner().getModid(), getName())))));
+        ResourceLocation id = new ResourceLocation(getOwner().getModid(), getName());
+        for (TagKey<R> tag : tags) {
+            getOwner().addToTag(type, tag, id);
         }
-        tagsByType.putAll(type, Arrays.asList(tags));
         return (S) this;
     }
 
@@ -116,10 +107,9 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
     @SuppressWarnings("unchecked")
     @SafeVarargs
     public final <TP extends TagsProvider<R> & RegistrateTagsProvider<R>> S removeTag(ProviderType<TP> type, TagKey<R>... tags) {
-        if (tagsByType.containsKey(type)) {
-            for (TagKey<R> tag : tags) {
-                tagsByType.remove(type, tag);
-            }
+        ResourceLocation id = new ResourceLocation(getOwner().getModid(), getName());
+        for (TagKey<R> tag : tags) {
+            getOwner().removeFromTag(type, tag, id);
         }
         return (S) this;
     }
@@ -149,6 +139,22 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
         return lang(langKeyProvider, (p, s) -> name);
     }
 
+    /**
+     * Set the lang key for this entry to the specified name, in the given locale. Generally, specific helpers from concrete builders should be used instead.
+     *
+     * @param langKeyProvider
+     *            A function to get the translation key from the entry
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            The name to use
+     * @return this {@link Builder}
+     * @see ProviderType#lang(String)
+     */
+    public S lang(NonNullFunction<T, String> langKeyProvider, String locale, String name) {
+        return setData(ProviderType.lang(locale), (ctx, prov) -> prov.add(langKeyProvider.apply(ctx.getEntry()), name));
+    }
+
     private S lang(NonNullFunction<T, String> langKeyProvider, NonNullBiFunction<RegistrateLangProvider, NonNullSupplier<? extends T>, String> localizedNameProvider) {
         return setData(ProviderType.LANG, (ctx, prov) -> prov.add(langKeyProvider.apply(ctx.getEntry()), localizedNameProvider.apply(prov, ctx::getEntry)));
     }
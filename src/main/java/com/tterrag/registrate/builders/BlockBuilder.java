@@ -317,6 +317,19 @@ public class BlockBuilder<T extends Block, P> extends AbstractBuilder<Block, T,
         return lang(Block::getDescriptionId, name);
     }
 
+    /**
+     * Set the translation for this block in a locale other than en_us.
+     *
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            A name localized for the given locale
+     * @return this {@link BlockBuilder}
+     */
+    public BlockBuilder<T, P> lang(String locale, String name) {
+        return lang(Block::getDescriptionId, locale, name);
+    }
+
     /**
      * Assign the default loot table, as specified by {@link RegistrateBlockLootTables#dropSelf(Block)}. This is the default, so it is generally not necessary to call, unless for
      * undoing previous changes.
@@ -113,7 +113,7 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
      */
     @SuppressWarnings("unchecked")
     default <D extends RegistrateProvider> S setData(ProviderType<? extends D> type, NonNullBiConsumer<DataGenContext<R, T>, D> cons) {
-        getOwner().setDataGenerator(this, type, prov -> cons.accept(DataGenContext.from(this), prov));
+        getOwner().setContextDataGenerator(this, type, cons);
         return (S) this;
     }
 
@@ -152,6 +152,41 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
         return (S) this;
     }
 
+    /**
+     * Mark the factory of this entry as safe to invoke from any thread, allowing it to be constructed concurrently with other entries when {@link AbstractRegistrate#parallelConstruction(boolean)}
+     * is enabled.
+     * <p>
+     * Not supported for blocks, items and other objects which create an intrusive registry holder when constructed.
+     * 
+     * @return this {@link Builder}
+     * @throws IllegalArgumentException
+     *             if the registry of this entry uses intrusive holders
+     * @see AbstractRegistrate#markThreadSafe(String, ResourceKey)
+     */
+    @SuppressWarnings("unchecked")
+    default S threadSafe() {
+        getOwner().markThreadSafe(getName(), getRegistryKey());
+        return (S) this;
+    }
+
+    /**
+     * Declare that this entry depends on another entry of the same {@link AbstractRegistrate}, so that the dependency is always created and registered first. Cycles are detected immediately.
+     * 
+     * @param name
+     *            The name of the entry this one depends on
+     * @param type
+     *            The registry of the entry this one depends on
+     * @return this {@link Builder}
+     * @throws IllegalArgumentException
+     *             if the dependency would create a cycle
+     * @see AbstractRegistrate#addDependency(String, ResourceKey, String, ResourceKey)
+     */
+    @SuppressWarnings("unchecked")
+    default S dependsOn(String name, ResourceKey<? extends Registry<?>> type) {
+        getOwner().addDependency(getName(), getRegistryKey(), name, type);
+        return (S) this;
+    }
+
     /**
      * Add a callback to be invoked when this entry is registered, but only after some other registry type has been registered as well. Can be called multiple times to add multiple callbacks.
      * <p>
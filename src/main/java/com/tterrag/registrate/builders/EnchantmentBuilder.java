@@ -128,6 +128,19 @@ public class EnchantmentBuilder<T extends Enchantment, P> extends AbstractBuilde
         return lang(Enchantment::getDescriptionId, name);
     }
 
+    /**
+     * Set the translation for this enchantment in a locale other than en_us.
+     *
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            A name localized for the given locale
+     * @return this {@link EnchantmentBuilder}
+     */
+    public EnchantmentBuilder<T, P> lang(String locale, String name) {
+        return lang(Enchantment::getDescriptionId, locale, name);
+    }
+
     @Override
     protected @NonnullType T createEntry() {
         return factory.create(rarity, type, slots.toArray(new EquipmentSlot[0]));
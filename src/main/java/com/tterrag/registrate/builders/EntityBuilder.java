@@ -252,6 +252,19 @@ public class EntityBuilder<T extends Entity, P> extends AbstractBuilder<EntityTy
         return lang(EntityType::getDescriptionId, name);
     }
 
+    /**
+     * Set the translation for this entity in a locale other than en_us.
+     *
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            A name localized for the given locale
+     * @return this {@link EntityBuilder}
+     */
+    public EntityBuilder<T, P> lang(String locale, String name) {
+        return lang(EntityType::getDescriptionId, locale, name);
+    }
+
     /**
      * Configure the loot table for this entity. This is different than most data gen callbacks as the callback does not accept a {@link DataGenContext}, but instead a
      * {@link RegistrateEntityLootTables}, for creating specifically entity loot tables.
@@ -1,8 +1,5 @@
 package com.tterrag.registrate.builders;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
@@ -14,7 +11,6 @@ import com.google.common.base.Preconditions;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.providers.ProviderType;
 import com.tterrag.registrate.providers.RegistrateLangProvider;
-import com.tterrag.registrate.providers.RegistrateTagsProvider;
 import com.tterrag.registrate.util.OneTimeEventReceiver;
 import com.tterrag.registrate.util.entry.FluidEntry;
 import com.tterrag.registrate.util.entry.RegistryEntry;
@@ -260,7 +256,6 @@ public class FluidBuilder<T extends ForgeFlowingFluid, P> extends AbstractBuilde
 
     @Nullable
     private NonNullSupplier<? extends ForgeFlowingFluid> source;
-    private final List<TagKey<Fluid>> tags = new ArrayList<>();
 
     public FluidBuilder(AbstractRegistrate<?> owner, P parent, String name, BuilderCallback callback, ResourceLocation stillTexture, ResourceLocation flowingTexture, FluidTypeFactory typeFactory, NonNullFunction<ForgeFlowingFluid.Properties, T> fluidFactory) {
         super(owner, parent, "flowing_" + name, callback, ForgeRegistries.Keys.FLUIDS);
@@ -339,6 +334,19 @@ public class FluidBuilder<T extends ForgeFlowingFluid, P> extends AbstractBuilde
         return lang(f -> f.getFluidType().getDescriptionId(), name);
     }
 
+    /**
+     * Set the translation for this fluid in a locale other than en_us.
+     *
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            A name localized for the given locale
+     * @return this {@link FluidBuilder}
+     */
+    public FluidBuilder<T, P> lang(String locale, String name) {
+        return lang(f -> f.getFluidType().getDescriptionId(), locale, name);
+    }
+
     @SuppressWarnings("deprecation")
     public FluidBuilder<T, P> renderType(Supplier<RenderType> layer) {
         DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
@@ -520,11 +528,10 @@ public class FluidBuilder<T extends ForgeFlowingFluid, P> extends AbstractBuilde
     @SafeVarargs
     public final FluidBuilder<T, P> tag(TagKey<Fluid>... tags) {
         FluidBuilder<T, P> ret = this.tag(ProviderType.FLUID_TAGS, tags);
-        if (this.tags.isEmpty()) {
-            ret.getOwner().<RegistrateTagsProvider<Fluid>, Fluid>setDataGenerator(ret.sourceName, getRegistryKey(), ProviderType.FLUID_TAGS,
-                prov -> this.tags.stream().map(prov::addTag).forEach(p -> p.add(getSource().builtInRegistryHolder().key())));
+        ResourceLocation source = new ResourceLocation(getOwner().getModid(), sourceName);
+        for (TagKey<Fluid> tag : tags) {
+            getOwner().addToTag(ProviderType.FLUID_TAGS, tag, source);
         }
-        this.tags.addAll(Arrays.asList(tags));
         return ret;
     }
 
@@ -537,7 +544,10 @@ public class FluidBuilder<T extends ForgeFlowingFluid, P> extends AbstractBuilde
      */
     @SafeVarargs
     public final FluidBuilder<T, P> removeTag(TagKey<Fluid>... tags) {
-        this.tags.removeAll(Arrays.asList(tags));
+        ResourceLocation source = new ResourceLocation(getOwner().getModid(), sourceName);
+        for (TagKey<Fluid> tag : tags) {
+            getOwner().removeFromTag(ProviderType.FLUID_TAGS, tag, source);
+        }
         return this.removeTag(ProviderType.FLUID_TAGS, tags);
     }
 
@@ -87,7 +87,9 @@ public class ItemBuilder<T extends Item, P> extends AbstractBuilder<Item, T, P,
         this.factory = factory;
 
         onRegister(item -> {
-            creativeModeTabs.forEach((creativeModeTab, consumer) -> owner.modifyCreativeModeTab(creativeModeTab, modifier -> consumer.accept(DataGenContext.from(this), modifier)));
+            // Only capture the context, the modifiers are kept for the whole session and must not hold on to this builder
+            DataGenContext<Item, T> ctx = DataGenContext.from(this);
+            creativeModeTabs.forEach((creativeModeTab, consumer) -> owner.modifyCreativeModeTab(creativeModeTab, modifier -> consumer.accept(ctx, modifier)));
             creativeModeTabs.clear(); // this registration should only fire once, to doubly ensure this, clear the map
         });
     }
@@ -255,6 +257,19 @@ public class ItemBuilder<T extends Item, P> extends AbstractBuilder<Item, T, P,
         return lang(Item::getDescriptionId, name);
     }
 
+    /**
+     * Set the translation for this item in a locale other than en_us.
+     *
+     * @param locale
+     *            The locale to add the translation to, e.g. {@code "de_de"}
+     * @param name
+     *            A name localized for the given locale
+     * @return this {@link ItemBuilder}
+     */
+    public ItemBuilder<T, P> lang(String locale, String name) {
+        return lang(Item::getDescriptionId, locale, name);
+    }
+
     /**
      * Configure the recipe(s) for this item.
      *
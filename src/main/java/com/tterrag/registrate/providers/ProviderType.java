@@ -16,6 +16,7 @@ import net.minecraftforge.fml.LogicalSide;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -52,6 +53,42 @@ public interface ProviderType<T extends RegistrateProvider> {
 
     T create(AbstractRegistrate<?> parent, GatherDataEvent event, Map<ProviderType<?>, RegistrateProvider> existing);
 
+    /**
+     * Get the lang provider type for the given locale, registering it on first use. Each locale is generated by its own {@link RegistrateLangProvider}, so they can run concurrently. Must be called
+     * before datagen begins, which is the case for any call made while setting up builders.
+     * <p>
+     * Locales are case-insensitive and may use {@code '-'} as a separator, so {@code "de-DE"} is the same as {@code "de_de"}. {@code "en_ud"} is always generated from {@code "en_us"}, so it can not
+     * be requested.
+     *
+     * @param locale
+     *            The locale, e.g. {@code "de_de"}
+     * @return The provider type for that locale, or {@link #LANG} for {@code "en_us"}
+     * @throws IllegalArgumentException
+     *             if the locale is {@code "en_ud"}, or is not a valid locale name
+     */
+    @SuppressWarnings("unchecked")
+    static ProviderType<RegistrateLangProvider> lang(String locale) {
+        String normalized = locale.toLowerCase(Locale.ROOT).replace('-', '_');
+        if (normalized.equals("en_us")) {
+            return LANG;
+        }
+        if (normalized.equals("en_ud")) {
+            throw new IllegalArgumentException("Locale en_ud can not be generated directly, it is generated automatically from en_us");
+        }
+        if (!normalized.matches("[a-z0-9]+(_[a-z0-9]+)*")) {
+            throw new IllegalArgumentException("Invalid locale: " + locale);
+        }
+        String name = "lang/" + normalized;
+        // Mods may be constructed in parallel
+        synchronized (RegistrateDataProvider.TYPES) {
+            ProviderType<?> existing = RegistrateDataProvider.TYPES.get(name);
+            if (existing != null) {
+                return (ProviderType<RegistrateLangProvider>) existing;
+            }
+            return register(name, type -> (p, e) -> new RegistrateLangProvider(p, e.getGenerator().getPackOutput(), type, normalized));
+        }
+    }
+
     // TODO this is clunky af
     @Nonnull
     static <T extends RegistrateProvider> ProviderType<T> registerDelegate(String name, NonNullUnaryOperator<ProviderType<T>> type) {
@@ -0,0 +1,88 @@
+package com.tterrag.registrate.providers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+
+/**
+ * Records the time taken by each data generator callback of an {@link AbstractRegistrate}, attributed to the {@link ProviderType} and the entry (if any) the callback belongs to.
+ * <p>
+ * Enabled via {@link AbstractRegistrate#profileData(boolean)}. Once datagen completes, a CSV report is written to {@code .cache/registrate/<modid>_datagen_profile.csv} within the output folder, and a
+ * summary per provider type is logged.
+ */
+@Log4j2
+public class RegistrateDataProfiler {
+
+    @Value
+    private static class Sample {
+        ProviderType<?> type;
+        @Nullable Pair<String, ResourceKey<? extends Registry<?>>> entry;
+        long nanos;
+    }
+
+    // Generators of different providers may run on different threads
+    private final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Record a single generator invocation.
+     *
+     * @param type
+     *            The type of provider the generator ran for
+     * @param entry
+     *            The entry the generator belongs to, or {@code null} for unassociated generators
+     * @param nanos
+     *            The time the generator took, in nanoseconds
+     */
+    public void record(ProviderType<?> type, @Nullable Pair<String, ResourceKey<? extends Registry<?>>> entry, long nanos) {
+        samples.add(new Sample(type, entry, nanos));
+    }
+
+    /**
+     * Write the collected samples as CSV, slowest first, and log the total time per provider type.
+     *
+     * @param modid
+     *            The mod ID, used to name the report
+     * @param outputFolder
+     *            The datagen output folder
+     */
+    public void write(String modid, Path outputFolder) {
+        Map<String, Long> totals = new TreeMap<>();
+        samples.forEach(s -> totals.merge(String.valueOf(RegistrateDataProvider.getTypeName(s.getType())), s.getNanos(), Long::sum));
+        totals.forEach((type, nanos) -> log.info(DebugMarkers.DATA, "({}) Data generator time for type {}: {} ms", modid, type, nanos / 1_000_000));
+
+        Path file = outputFolder.resolve(".cache").resolve("registrate").resolve(modid + "_datagen_profile.csv");
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("type,registry,entry,nanos");
+                writer.newLine();
+                for (Sample s : (Iterable<Sample>) samples.stream().sorted(Comparator.comparingLong(Sample::getNanos).reversed())::iterator) {
+                    Pair<String, ResourceKey<? extends Registry<?>>> entry = s.getEntry();
+                    writer.write(RegistrateDataProvider.getTypeName(s.getType()) + "," + (entry == null ? "" : entry.getRight().location()) + "," + (entry == null ? "" : entry.getLeft()) + "," + s.getNanos());
+                    writer.newLine();
+                }
+            }
+            log.info(DebugMarkers.DATA, "({}) Wrote data generator profile to {}", modid, file);
+        } catch (IOException e) {
+            log.error(DebugMarkers.DATA, "Failed to write data generator profile to {}", file, e);
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.tterrag.registrate.providers;
 
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
 import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.providers.loot.RegistrateLootTableProvider;
 import com.tterrag.registrate.util.DebugMarkers;
 import com.tterrag.registrate.util.nullness.NonnullType;
 import lombok.extern.log4j.Log4j2;
 
+import net.minecraft.Util;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataProvider;
@@ -15,6 +20,7 @@ import net.minecraftforge.data.event.GatherDataEvent;
 import net.minecraftforge.fml.LogicalSide;
 
 import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -29,12 +35,18 @@ public class RegistrateDataProvider implements DataProvider {
         return TYPES.inverse().get(type);
     }
 
+    private final AbstractRegistrate<?> parent;
     private final String mod;
+    private final Path outputFolder;
     private final Map<ProviderType<?>, RegistrateProvider> subProviders = new LinkedHashMap<>();
+    /** The types each provider looked up from the existing providers during creation, these must finish before it runs when running concurrently */
+    private final Multimap<ProviderType<?>, ProviderType<?>> dependencies = HashMultimap.create();
     private final CompletableFuture<HolderLookup.Provider> registriesLookup;
 
     public RegistrateDataProvider(AbstractRegistrate<?> parent, String modid, GatherDataEvent event) {
+        this.parent = parent;
         this.mod = modid;
+        this.outputFolder = event.getGenerator().getPackOutput().getOutputFolder();
         this.registriesLookup = event.getLookupProvider();
 
         EnumSet<LogicalSide> sides = EnumSet.noneOf(LogicalSide.class);
@@ -49,7 +61,21 @@ public class RegistrateDataProvider implements DataProvider {
         Map<ProviderType<?>, RegistrateProvider> known = new HashMap<>();
         for (String id : TYPES.keySet()) {
             ProviderType<?> type = TYPES.get(id);
-            RegistrateProvider prov = type.create(parent, event, known);
+            RegistrateProvider prov = type.create(parent, event, new ForwardingMap<>() {
+
+                @Override
+                protected Map<ProviderType<?>, RegistrateProvider> delegate() {
+                    return known;
+                }
+
+                @Override
+                public RegistrateProvider get(@Nullable Object key) {
+                    if (key instanceof ProviderType<?> dependency) {
+                        dependencies.put(type, dependency);
+                    }
+                    return super.get(key);
+                }
+            });
             known.put(type, prov);
             if (sides.contains(prov.getSide())) {
                 log.debug(DebugMarkers.DATA, "Adding provider for type: {}", id);
@@ -63,15 +89,76 @@ public class RegistrateDataProvider implements DataProvider {
         return registriesLookup.thenCompose(provider -> {
             var list = Lists.<CompletableFuture<?>>newArrayList();
 
-            for (Map.Entry<@NonnullType ProviderType<?>, RegistrateProvider> e : subProviders.entrySet()) {
-                log.debug(DebugMarkers.DATA, "Generating data for type: {}", getTypeName(e.getKey()));
-                list.add(e.getValue().run(cache));
-            };
+            if (parent.isParallelData()) {
+                Scheduler scheduler = new Scheduler(cache);
+                for (ProviderType<?> type : subProviders.keySet()) {
+                    list.add(scheduler.schedule(type));
+                }
+            } else {
+                for (Map.Entry<@NonnullType ProviderType<?>, RegistrateProvider> e : subProviders.entrySet()) {
+                    log.debug(DebugMarkers.DATA, "Generating data for type: {}", getTypeName(e.getKey()));
+                    list.add(e.getValue().run(cache));
+                };
+            }
 
             return CompletableFuture.allOf(list.toArray(CompletableFuture[]::new));
+        }).thenRun(() -> {
+            RegistrateDataProfiler profiler = parent.getDataProfiler();
+            if (profiler != null) {
+                profiler.write(mod, outputFolder);
+            }
         });
     }
 
+    /**
+     * Providers which do not share any state with other providers, and so may run concurrently with them. All other providers, including the tag, model and generic providers which record
+     * generated files in the shared {@link net.minecraftforge.common.data.ExistingFileHelper ExistingFileHelper}, and any third-party provider, are run one after another.
+     */
+    private static boolean isIndependent(RegistrateProvider provider) {
+        return provider instanceof RegistrateRecipeProvider
+                || provider instanceof RegistrateAdvancementProvider
+                || provider instanceof RegistrateLootTableProvider
+                || provider instanceof RegistrateLangProvider;
+    }
+
+    private class Scheduler {
+
+        private final CachedOutput cache;
+        private final Map<ProviderType<?>, CompletableFuture<?>> scheduled = new HashMap<>();
+        /** The last provider which must not run concurrently with the others */
+        private CompletableFuture<?> sequential = CompletableFuture.completedFuture(null);
+
+        Scheduler(CachedOutput cache) {
+            this.cache = cache;
+        }
+
+        CompletableFuture<?> schedule(ProviderType<?> type) {
+            CompletableFuture<?> ret = scheduled.get(type);
+            if (ret != null) {
+                return ret;
+            }
+            RegistrateProvider provider = subProviders.get(type);
+            // Dependencies can only be on providers created earlier, so this cannot recurse infinitely
+            List<CompletableFuture<?>> deps = dependencies.get(type).stream()
+                    .filter(subProviders::containsKey)
+                    .map(this::schedule)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            boolean independent = isIndependent(provider);
+            if (!independent) {
+                deps.add(sequential);
+            }
+            ret = CompletableFuture.allOf(deps.toArray(CompletableFuture[]::new)).thenComposeAsync($ -> {
+                log.debug(DebugMarkers.DATA, "Generating data for type: {}", getTypeName(type));
+                return provider.run(cache);
+            }, Util.backgroundExecutor());
+            if (!independent) {
+                sequential = ret;
+            }
+            scheduled.put(type, ret);
+            return ret;
+        }
+    }
+
     @Override
     public String getName() {
         return "Registrate Provider for " + mod + " [" + subProviders.values().stream().map(DataProvider::getName).collect(Collectors.joining(", ")) + "]";
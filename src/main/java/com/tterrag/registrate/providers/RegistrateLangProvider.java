@@ -1,14 +1,20 @@
 package com.tterrag.registrate.providers;
 
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.gson.stream.JsonWriter;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.util.nullness.NonNullSupplier;
 import com.tterrag.registrate.util.nullness.NonnullType;
+import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 
+import net.minecraft.Util;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
 import net.minecraft.data.PackOutput;
 import net.minecraft.network.chat.contents.TranslatableContents;
 import net.minecraft.resources.ResourceKey;
@@ -21,12 +27,21 @@ import net.minecraftforge.common.data.LanguageProvider;
 import net.minecraftforge.fml.LogicalSide;
 
 import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+@Log4j2
 public class RegistrateLangProvider extends LanguageProvider implements RegistrateProvider {
 
     private static class AccessibleLanguageProvider extends LanguageProvider {
@@ -45,13 +60,30 @@ public class RegistrateLangProvider extends LanguageProvider implements Registra
     }
 
     private final AbstractRegistrate<?> owner;
+    private final PackOutput packOutput;
+    private final ProviderType<RegistrateLangProvider> type;
+    private final String locale;
 
-    private final AccessibleLanguageProvider upsideDown;
+    /** Only present for en_us */
+    private final @Nullable AccessibleLanguageProvider upsideDown;
+    /** Only used when {@link AbstractRegistrate#isStreamLang() streaming}, replaces both the en_us and en_ud maps */
+    private final Map<String, String> streamed = new TreeMap<>(DataProvider.KEY_COMPARATOR);
 
     public RegistrateLangProvider(AbstractRegistrate<?> owner, PackOutput packOutput) {
-        super(packOutput, owner.getModid(), "en_us");
+        this(owner, packOutput, ProviderType.LANG, "en_us");
+    }
+
+    public RegistrateLangProvider(AbstractRegistrate<?> owner, PackOutput packOutput, ProviderType<RegistrateLangProvider> type, String locale) {
+        super(packOutput, owner.getModid(), locale);
         this.owner = owner;
-        this.upsideDown = new AccessibleLanguageProvider(packOutput, owner.getModid(), "en_ud");
+        this.packOutput = packOutput;
+        this.type = type;
+        this.locale = locale;
+        this.upsideDown = isEnglish() ? new AccessibleLanguageProvider(packOutput, owner.getModid(), "en_ud") : null;
+    }
+
+    private boolean isEnglish() {
+        return locale.equals("en_us");
     }
 
     @Override
@@ -61,12 +93,12 @@ public class RegistrateLangProvider extends LanguageProvider implements Registra
 
     @Override
     public String getName() {
-        return "Lang (en_us/en_ud)";
+        return isEnglish() ? "Lang (en_us/en_ud)" : "Lang (" + locale + ")";
     }
 
     @Override
     protected void addTranslations() {
-        owner.genData(ProviderType.LANG, this);
+        owner.genData(type, this);
     }
 
     public static final String toEnglishName(String internalName) {
@@ -139,46 +171,107 @@ public class RegistrateLangProvider extends LanguageProvider implements Registra
             /*  numbers  */ "0\u0196\u1105\u0190\u3123\u03DB9\u312586" +
             /*  special  */ "\u203E'\u061B\u02D9\u00BF\u00A1/\\,";
 
+    /** Maps every char up to the highest one in {@link #NORMAL_CHARS} to its upside down counterpart, unmapped chars map to themselves */
+    private static final char[] UPSIDE_DOWN_TABLE;
+
     static {
         if (NORMAL_CHARS.length() != UPSIDE_DOWN_CHARS.length()) {
             throw new AssertionError("Char maps do not match in length!");
         }
+        char max = 0;
+        for (int i = 0; i < NORMAL_CHARS.length(); i++) {
+            max = (char) Math.max(max, NORMAL_CHARS.charAt(i));
+        }
+        UPSIDE_DOWN_TABLE = new char[max + 1];
+        for (int i = 0; i < UPSIDE_DOWN_TABLE.length; i++) {
+            UPSIDE_DOWN_TABLE[i] = (char) i;
+        }
+        // Iterate backwards so the first occurrence of a char wins, as with indexOf
+        for (int i = NORMAL_CHARS.length() - 1; i >= 0; i--) {
+            UPSIDE_DOWN_TABLE[NORMAL_CHARS.charAt(i)] = UPSIDE_DOWN_CHARS.charAt(i);
+        }
+    }
+
+    private static boolean isFormatChar(char c) {
+        return Character.isDigit(c) || c == '%' || c == '$' || c == 's' || c == 'd'; // TODO this is a bit lazy
     }
 
-    private String toUpsideDown(String normal) {
-        char[] ud = new char[normal.length()];
-        for (int i = 0; i < normal.length(); i++) {
+    static String toUpsideDown(String normal) {
+        int len = normal.length();
+        char[] ud = new char[len];
+        for (int i = 0; i < len; i++) {
             char c = normal.charAt(i);
             if (c == '%') {
-                String fmtArg = "";
-                while (Character.isDigit(c) || c == '%' || c == '$' || c == 's' || c == 'd') { // TODO this is a bit lazy
-                    fmtArg += c;
-                    i++;
-                    c = i == normal.length() ? 0 : normal.charAt(i);
-                }
-                i--;
-                for (int j = 0; j < fmtArg.length(); j++) {
-                    ud[normal.length() - 1 - i + j] = fmtArg.charAt(j);
+                // Format arguments are kept in their original order, at the mirrored position
+                int end = i + 1;
+                while (end < len && isFormatChar(normal.charAt(end))) {
+                    end++;
                 }
+                normal.getChars(i, end, ud, len - end);
+                i = end - 1;
                 continue;
             }
-            int lookup = NORMAL_CHARS.indexOf(c);
-            if (lookup >= 0) {
-                c = UPSIDE_DOWN_CHARS.charAt(lookup);
-            }
-            ud[normal.length() - 1 - i] = c;
+            ud[len - 1 - i] = c < UPSIDE_DOWN_TABLE.length ? UPSIDE_DOWN_TABLE[c] : c;
         }
         return new String(ud);
     }
 
     @Override
     public void add(String key, String value) {
+        if (owner.isStreamLang()) {
+            if (streamed.put(key, value) != null) {
+                throw new IllegalStateException("Duplicate translation key " + key);
+            }
+            return;
+        }
         super.add(key, value);
-        upsideDown.add(key, toUpsideDown(value));
+        AccessibleLanguageProvider upsideDown = this.upsideDown;
+        if (upsideDown != null) {
+            upsideDown.add(key, toUpsideDown(value));
+        }
     }
 
     @Override
     public CompletableFuture<?> run(CachedOutput cache) {
+        if (owner.isStreamLang()) {
+            addTranslations();
+            if (streamed.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<?> ret = CompletableFuture.runAsync(() -> writeLang(cache, locale, UnaryOperator.identity()), Util.backgroundExecutor());
+            if (!isEnglish()) {
+                return ret;
+            }
+            return CompletableFuture.allOf(ret, CompletableFuture.runAsync(() -> writeLang(cache, "en_ud", RegistrateLangProvider::toUpsideDown), Util.backgroundExecutor()));
+        }
+        AccessibleLanguageProvider upsideDown = this.upsideDown;
+        if (upsideDown == null) {
+            return super.run(cache);
+        }
         return CompletableFuture.allOf(super.run(cache), upsideDown.run(cache));
     }
+
+    /**
+     * Write the collected translations straight to a {@link JsonWriter}, without building an intermediate JSON tree. The output is identical to that of {@link DataProvider#saveStable}.
+     */
+    @SuppressWarnings({ "deprecation", "UnstableApiUsage" })
+    private void writeLang(CachedOutput cache, String locale, UnaryOperator<String> valueMapper) {
+        Path path = packOutput.getOutputFolder(PackOutput.Target.RESOURCE_PACK).resolve(owner.getModid()).resolve("lang").resolve(locale + ".json");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            HashingOutputStream hashing = new HashingOutputStream(Hashing.sha1(), bytes);
+            try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(hashing, StandardCharsets.UTF_8))) {
+                writer.setSerializeNulls(false);
+                writer.setIndent("  ");
+                writer.beginObject();
+                for (Map.Entry<String, String> e : streamed.entrySet()) {
+                    writer.name(e.getKey()).value(valueMapper.apply(e.getValue()));
+                }
+                writer.endObject();
+            }
+            cache.writeIfNeeded(path, bytes.toByteArray(), hashing.hash());
+        } catch (IOException e) {
+            log.error("Failed to save file to {}", path, e);
+        }
+    }
 }
@@ -37,6 +37,7 @@ public interface RegistrateTagsProvider<T> extends RegistrateProvider {
 
         @Override
         protected void addTags(HolderLookup.Provider provider) {
+            owner.genTags(type, this);
             owner.genData(type, this);
         }
 
@@ -71,6 +72,7 @@ public interface RegistrateTagsProvider<T> extends RegistrateProvider {
 
         @Override
         protected void addTags(HolderLookup.Provider provider) {
+            owner.genTags(type, this);
             owner.genData(type, this);
         }
 
@@ -17,8 +17,6 @@ import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
 import net.minecraft.world.level.storage.loot.providers.number.NumberProvider;
 
 import java.util.function.Consumer;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import javax.annotation.Generated;
 
@@ -34,7 +32,7 @@ public class RegistrateBlockLootTables extends VanillaBlockLoot implements Regis
 
     @Override
     protected Iterable<Block> getKnownBlocks() {
-        return parent.getAll(Registries.BLOCK).stream().map(Supplier::get).collect(Collectors.toList());
+        return parent.getAllValues(Registries.BLOCK);
     }
 
     // @formatter:off
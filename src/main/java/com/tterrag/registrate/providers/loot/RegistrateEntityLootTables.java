@@ -1,7 +1,6 @@
 package com.tterrag.registrate.providers.loot;
 
 import java.util.function.Consumer;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Generated;
@@ -32,7 +31,7 @@ public class RegistrateEntityLootTables extends VanillaEntityLoot implements Reg
 
     @Override
     protected Stream<EntityType<?>> getKnownEntityTypes() {
-        return parent.getAll(Registries.ENTITY_TYPE).stream().map(Supplier::get);
+        return parent.getAllValues(Registries.ENTITY_TYPE).stream();
     }
 
     // @formatter:off
@@ -0,0 +1,139 @@
+package com.tterrag.registrate.util;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.tterrag.registrate.AbstractRegistrate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Receives timings for the work an {@link AbstractRegistrate} does during registration. All timings are in nanoseconds.
+ * <p>
+ * Set a listener via {@link AbstractRegistrate#metrics(RegistrateMetrics)}, or use {@link AbstractRegistrate#collectMetrics(int)} to log a report of the slowest entry factories and callbacks once loading completes.
+ * <p>
+ * Implementations must be thread-safe, as entries may be constructed concurrently (see {@link AbstractRegistrate#parallelConstruction(boolean)}).
+ */
+public interface RegistrateMetrics {
+
+    /** A listener which discards all timings. */
+    RegistrateMetrics NONE = new RegistrateMetrics() {};
+
+    /**
+     * Called after an entry object has been constructed.
+     *
+     * @param registry
+     *            The registry the entry belongs to
+     * @param name
+     *            The name of the entry
+     * @param nanos
+     *            Time spent in the entry factory
+     */
+    default void entryConstructed(ResourceKey<? extends Registry<?>> registry, ResourceLocation name, long nanos) {}
+
+    /**
+     * Called after the register callbacks of an entry have been run.
+     *
+     * @param registry
+     *            The registry the entry belongs to
+     * @param name
+     *            The name of the entry
+     * @param nanos
+     *            Time spent in the callbacks of this entry
+     */
+    default void entryCallbacks(ResourceKey<? extends Registry<?>> registry, ResourceLocation name, long nanos) {}
+
+    /**
+     * Called after the callbacks that wait for a registry to complete have been run.
+     *
+     * @param registry
+     *            The registry which completed
+     * @param count
+     *            The number of callbacks that were run
+     * @param nanos
+     *            Time spent in the callbacks
+     */
+    default void lateCallbacks(ResourceKey<? extends Registry<?>> registry, int count, long nanos) {}
+
+    /**
+     * Called after all entries of a registry have been registered.
+     *
+     * @param registry
+     *            The registry which was registered
+     * @param count
+     *            The number of entries registered
+     * @param nanos
+     *            Total time spent registering the entries, including construction and callbacks
+     */
+    default void registryCompleted(ResourceKey<? extends Registry<?>> registry, int count, long nanos) {}
+
+    /**
+     * Collects all timings in memory, and can log a sorted report of the slowest registries, entry factories and entry callbacks via {@link #report()}.
+     */
+    @Log4j2
+    @RequiredArgsConstructor
+    class Aggregator implements RegistrateMetrics {
+
+        private final String modid;
+        private final int topN;
+
+        private final Map<Pair<ResourceKey<? extends Registry<?>>, ResourceLocation>, AtomicLong> constructed = new ConcurrentHashMap<>();
+        private final Map<Pair<ResourceKey<? extends Registry<?>>, ResourceLocation>, AtomicLong> callbacks = new ConcurrentHashMap<>();
+        private final Map<ResourceKey<? extends Registry<?>>, AtomicLong> registries = new ConcurrentHashMap<>();
+        private final Map<ResourceKey<? extends Registry<?>>, AtomicLong> late = new ConcurrentHashMap<>();
+
+        @Override
+        public void entryConstructed(ResourceKey<? extends Registry<?>> registry, ResourceLocation name, long nanos) {
+            constructed.computeIfAbsent(Pair.of(registry, name), $ -> new AtomicLong()).addAndGet(nanos);
+        }
+
+        @Override
+        public void entryCallbacks(ResourceKey<? extends Registry<?>> registry, ResourceLocation name, long nanos) {
+            callbacks.computeIfAbsent(Pair.of(registry, name), $ -> new AtomicLong()).addAndGet(nanos);
+        }
+
+        @Override
+        public void lateCallbacks(ResourceKey<? extends Registry<?>> registry, int count, long nanos) {
+            late.computeIfAbsent(registry, $ -> new AtomicLong()).addAndGet(nanos);
+        }
+
+        @Override
+        public void registryCompleted(ResourceKey<? extends Registry<?>> registry, int count, long nanos) {
+            registries.computeIfAbsent(registry, $ -> new AtomicLong()).addAndGet(nanos);
+        }
+
+        /**
+         * Log the collected timings, slowest first.
+         */
+        public void report() {
+            log.info(DebugMarkers.REGISTER, "({}) Registration timings, top {} registries:", modid, topN);
+            registries.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<ResourceKey<? extends Registry<?>>, AtomicLong> e) -> e.getValue().get()).reversed())
+                    .limit(topN)
+                    .forEach(e -> log.info(DebugMarkers.REGISTER, "  {}: {} ms (+{} ms in completion callbacks)", e.getKey().location(), toMillis(e.getValue().get()), toMillis(late.getOrDefault(e.getKey(), new AtomicLong()).get())));
+            reportEntries("entry factories", constructed);
+            reportEntries("entry callbacks", callbacks);
+        }
+
+        private void reportEntries(String kind, Map<Pair<ResourceKey<? extends Registry<?>>, ResourceLocation>, AtomicLong> timings) {
+            log.info(DebugMarkers.REGISTER, "({}) Registration timings, top {} {}:", modid, topN, kind);
+            timings.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<Pair<ResourceKey<? extends Registry<?>>, ResourceLocation>, AtomicLong> e) -> e.getValue().get()).reversed())
+                    .limit(topN)
+                    .forEach(e -> log.info(DebugMarkers.REGISTER, "  {} [{}]: {} ms", e.getKey().getRight(), e.getKey().getLeft().location(), toMillis(e.getValue().get())));
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tterrag.registrate.util.entry;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Cache of values by level and packed {@link BlockPos}, used by {@link BlockEntityEntry#cacheLookups()}.
+ * <p>
+ * The cache of a level belongs to the first thread that uses it, and is bypassed on any other thread, so lookups need no locking. Levels are only referenced weakly, and so are the cached values,
+ * since a block entity references its level and would otherwise keep it alive.
+ *
+ * @param <K>
+ *            The level type
+ * @param <V>
+ *            The value type
+ */
+final class BlockEntityCache<K, V> {
+
+    private static final class LevelCache<K, V> {
+
+        final WeakReference<K> level;
+        final Thread owner;
+        final Long2ObjectOpenHashMap<WeakReference<V>> values = new Long2ObjectOpenHashMap<>();
+
+        LevelCache(K level, Thread owner) {
+            this.level = new WeakReference<>(level);
+            this.owner = owner;
+        }
+    }
+
+    private final Predicate<? super V> valid;
+    private final Map<K, LevelCache<K, V>> levels = new WeakHashMap<>();
+    /** The cache of the most recently queried level, so that repeated queries skip the synchronized lookup */
+    private volatile @Nullable LevelCache<K, V> last;
+
+    /**
+     * @param valid
+     *            Checked on every hit, values which no longer pass are dropped
+     */
+    BlockEntityCache(Predicate<? super V> valid) {
+        this.valid = valid;
+    }
+
+    private @Nullable LevelCache<K, V> forLevel(K level) {
+        Thread thread = Thread.currentThread();
+        LevelCache<K, V> ret = last;
+        if (ret == null || ret.level.get() != level) {
+            synchronized (levels) {
+                ret = levels.computeIfAbsent(level, l -> new LevelCache<>(l, thread));
+            }
+            last = ret;
+        }
+        return ret.owner == thread ? ret : null;
+    }
+
+    /**
+     * @return The cached value at the given position, or {@code null} if there is none, or it is no longer valid
+     */
+    @Nullable
+    V get(K level, long pos) {
+        LevelCache<K, V> cache = forLevel(level);
+        if (cache == null) {
+            return null;
+        }
+        WeakReference<V> ref = cache.values.get(pos);
+        if (ref == null) {
+            return null;
+        }
+        V ret = ref.get();
+        if (ret != null && valid.test(ret)) {
+            return ret;
+        }
+        cache.values.remove(pos);
+        return null;
+    }
+
+    void put(K level, long pos, V value) {
+        LevelCache<K, V> cache = forLevel(level);
+        if (cache != null) {
+            cache.values.put(pos, new WeakReference<>(value));
+        }
+    }
+
+    /**
+     * Drop all values within a chunk. Takes time linear in the number of values cached for the level, which only includes positions that have been queried.
+     */
+    void unloadChunk(K level, int chunkX, int chunkZ) {
+        LevelCache<K, V> cache = forLevel(level);
+        if (cache == null) {
+            return;
+        }
+        for (LongIterator iter = cache.values.keySet().iterator(); iter.hasNext();) {
+            long pos = iter.nextLong();
+            if (SectionPos.blockToSectionCoord(BlockPos.getX(pos)) == chunkX && SectionPos.blockToSectionCoord(BlockPos.getZ(pos)) == chunkZ) {
+                iter.remove();
+            }
+        }
+    }
+
+    void unloadLevel(K level) {
+        synchronized (levels) {
+            levels.remove(level);
+        }
+        LevelCache<K, V> last = this.last;
+        if (last != null && last.level.get() == level) {
+            this.last = null;
+        }
+    }
+}
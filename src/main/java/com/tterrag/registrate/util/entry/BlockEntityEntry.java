@@ -8,17 +8,57 @@ import com.tterrag.registrate.AbstractRegistrate;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.registries.RegistryObject;
 
 public class BlockEntityEntry<T extends BlockEntity> extends RegistryEntry<BlockEntityType<T>> {
 
+    /** Per level cache of block entities of this type, keyed by packed position. {@code null} unless {@link #cacheLookups()} has been called */
+    private volatile @Nullable BlockEntityCache<Level, T> cache;
+
     public BlockEntityEntry(AbstractRegistrate<?> owner, RegistryObject<BlockEntityType<T>> delegate) {
         super(owner, delegate);
     }
 
+    /**
+     * Cache the results of {@link #getNullable(BlockGetter, BlockPos)} for {@link Level levels}, so that repeated queries for the same position skip the chunk and block entity lookups.
+     * <p>
+     * Cached instances are checked to not be {@link BlockEntity#isRemoved() removed} before they are returned, and are dropped when their chunk or level unloads. Positions without a matching block
+     * entity are never cached. The cache of a level is only used on the thread which first queried it, queries from other threads always look up the block entity.
+     *
+     * @return this {@link BlockEntityEntry}
+     */
+    public synchronized BlockEntityEntry<T> cacheLookups() {
+        if (cache == null) {
+            cache = new BlockEntityCache<>(be -> !be.isRemoved());
+            MinecraftForge.EVENT_BUS.addListener(this::onChunkUnload);
+            MinecraftForge.EVENT_BUS.addListener(this::onLevelUnload);
+        }
+        return this;
+    }
+
+    private void onChunkUnload(ChunkEvent.Unload event) {
+        BlockEntityCache<Level, T> cache = this.cache;
+        if (cache != null && event.getLevel() instanceof Level level) {
+            ChunkPos chunk = event.getChunk().getPos();
+            cache.unloadChunk(level, chunk.x, chunk.z);
+        }
+    }
+
+    private void onLevelUnload(LevelEvent.Unload event) {
+        BlockEntityCache<Level, T> cache = this.cache;
+        if (cache != null && event.getLevel() instanceof Level level) {
+            cache.unloadLevel(level);
+        }
+    }
+
     /**
      * Create a "default" instance of this {@link BlockEntity} via the {@link BlockEntityType}.
      * 
@@ -63,6 +103,19 @@ public class BlockEntityEntry<T extends BlockEntity> extends RegistryEntry<Block
      */
     @SuppressWarnings("unchecked")
     public @Nullable T getNullable(BlockGetter world, BlockPos pos) {
+        BlockEntityCache<Level, T> cache = this.cache;
+        if (cache != null && world instanceof Level level) {
+            long key = pos.asLong();
+            T ret = cache.get(level, key);
+            if (ret == null) {
+                BlockEntity be = level.getBlockEntity(pos);
+                if (is(be)) {
+                    ret = (T) be;
+                    cache.put(level, key, ret);
+                }
+            }
+            return ret;
+        }
         BlockEntity be = world.getBlockEntity(pos);
         return is(be) ? (T) be : null;
     }
@@ -19,6 +19,23 @@ public class BlockEntry<T extends Block> extends ItemProviderEntry<T> {
     public boolean has(BlockState state) {
         return is(state.getBlock());
     }
+
+    /**
+     * Check if any of the given states belongs to this entry.
+     *
+     * @param states
+     *            The states to check
+     * @return {@code true} if any of the states is a state of this block
+     */
+    public boolean hasAny(BlockState... states) {
+        Block block = get();
+        for (BlockState state : states) {
+            if (state.getBlock() == block) {
+                return true;
+            }
+        }
+        return false;
+    }
     
     public static <T extends Block> BlockEntry<T> cast(RegistryEntry<T> entry) {
         return RegistryEntry.cast(BlockEntry.class, entry);
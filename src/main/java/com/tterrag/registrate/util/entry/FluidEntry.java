@@ -29,7 +29,25 @@ public class FluidEntry<T extends ForgeFlowingFluid> extends RegistryEntry<T> {
 
     @Override
     public <R> boolean is(R entry) {
-        return get().isSame((Fluid) entry);
+        T fluid = get();
+        return fluid == entry || fluid.isSame((Fluid) entry);
+    }
+
+    /**
+     * Check if any of the given fluids is the same as this entry, see {@link Fluid#isSame(Fluid)}.
+     *
+     * @param fluids
+     *            The fluids to check
+     * @return {@code true} if any of the fluids is the same as this entry
+     */
+    public boolean isAny(Fluid... fluids) {
+        T fluid = get();
+        for (Fluid other : fluids) {
+            if (fluid == other || fluid.isSame(other)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @SuppressWarnings("unchecked")
@@ -1,14 +1,19 @@
 package com.tterrag.registrate.util.entry;
 
+import javax.annotation.Nullable;
+
 import com.tterrag.registrate.AbstractRegistrate;
 
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.level.ItemLike;
 import net.minecraftforge.registries.RegistryObject;
 
 public class ItemProviderEntry<T extends ItemLike> extends RegistryEntry<T> implements ItemLike {
 
+    private @Nullable Item item;
+
     public ItemProviderEntry(AbstractRegistrate<?> owner, RegistryObject<T> delegate) {
         super(owner, delegate);
     }
@@ -25,12 +30,43 @@ public class ItemProviderEntry<T extends ItemLike> extends RegistryEntry<T> impl
         return is(stack.getItem());
     }
 
+    /**
+     * Check if any of the given stacks holds this entry.
+     *
+     * @param stacks
+     *            The stacks to check
+     * @return {@code true} if any of the stacks holds this entry
+     */
+    public boolean isInAny(ItemStack... stacks) {
+        Item item = asItem();
+        for (ItemStack stack : stacks) {
+            if (stack.getItem() == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean is(Item item) {
         return asItem() == item;
     }
 
     @Override
     public Item asItem() {
-        return get().asItem();
+        Item ret = item;
+        if (ret == null) {
+            ret = get().asItem();
+            // Blocks report air until their item is registered
+            if (ret != Items.AIR) {
+                item = ret;
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    protected void invalidate() {
+        super.invalidate();
+        item = null;
     }
 }
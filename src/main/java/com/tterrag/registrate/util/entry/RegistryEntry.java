@@ -1,5 +1,7 @@
 package com.tterrag.registrate.util.entry;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -58,6 +60,11 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
     private final AbstractRegistrate<?> owner;
     @Delegate(excludes = Exclusions.class)
     private final @Nullable RegistryObject<T> delegate;
+    /**
+     * The entry once it has been resolved from the delegate, reset whenever the delegate is updated through this object. Forge may also refresh the delegate directly, e.g. when a registry snapshot
+     * is injected. Such a refresh remaps IDs but keeps the registered objects, so the resolved entry stays valid for as long as the delegate is present, which is checked on every access.
+     */
+    private @Nullable T resolved;
 
     @SuppressWarnings("unused")
     public RegistryEntry(AbstractRegistrate<?> owner, RegistryObject<T> delegate) {
@@ -71,6 +78,17 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
 
     private static final Method _updateReference_Registry = ObfuscationReflectionHelper.findMethod(RegistryObject.class, "updateReference", IForgeRegistry.class);
     private static final Method _updateReference_Event = ObfuscationReflectionHelper.findMethod(RegistryObject.class, "updateReference", RegisterEvent.class);
+    // Resolved once so that per-entry updates avoid reflective invocation, null if the lookup failed in which case the reflective path is used
+    private static final @Nullable MethodHandle _updateReference_Registry_Handle = unreflect(_updateReference_Registry);
+    private static final @Nullable MethodHandle _updateReference_Event_Handle = unreflect(_updateReference_Event);
+
+    private static @Nullable MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
 
     /**
      * Update the underlying entry manually from the given registry.
@@ -80,10 +98,18 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      */
     @Deprecated
     public void updateReference(IForgeRegistry<? super T> event) {
-        RegistryObject<T> delegate = this.delegate;
+        RegistryObject<T> delegate = Objects.requireNonNull(this.delegate, "Registry entry is empty");
+        MethodHandle mh = _updateReference_Registry_Handle;
         try {
-            _updateReference_Registry.invoke(Objects.requireNonNull(delegate, "Registry entry is empty"), event);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            if (mh != null) {
+                mh.invokeExact(delegate, event);
+            } else {
+                _updateReference_Registry.invoke(delegate, event);
+            }
+            invalidate();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
@@ -95,14 +121,29 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      *            The register event to pull the entry from.
      */
     public void updateReference(RegisterEvent event) {
-        RegistryObject<T> delegate = this.delegate;
+        RegistryObject<T> delegate = Objects.requireNonNull(this.delegate, "Registry entry is empty");
+        MethodHandle mh = _updateReference_Event_Handle;
         try {
-            _updateReference_Event.invoke(Objects.requireNonNull(delegate, "Registry entry is empty"), event);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            if (mh != null) {
+                mh.invokeExact(delegate, event);
+            } else {
+                _updateReference_Event.invoke(delegate, event);
+            }
+            invalidate();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Called when the underlying entry has been updated through this object, to drop any values derived from the previous entry. Subclasses caching such values must call {@code super}.
+     */
+    protected void invalidate() {
+        resolved = null;
+    }
+
     /**
      * Get the entry, throwing an exception if it is not present for any reason.
      * 
@@ -110,8 +151,12 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      */
     @Override
     public @NonnullType T get() {
-        RegistryObject<T> delegate = this.delegate;
-        return Objects.requireNonNull(getUnchecked(), () -> delegate == null ? "Registry entry is empty" : "Registry entry not present: " + delegate.getId());
+        T ret = getUnchecked();
+        if (ret == null) {
+            RegistryObject<T> delegate = this.delegate;
+            throw new NullPointerException(delegate == null ? "Registry entry is empty" : "Registry entry not present: " + delegate.getId());
+        }
+        return ret;
     }
 
     /**
@@ -121,7 +166,16 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      */
     public @Nullable T getUnchecked() {
         RegistryObject<T> delegate = this.delegate;
-        return delegate == null ? null : delegate.orElse(null);
+        if (delegate == null) {
+            return null;
+        }
+        T ret = resolved;
+        // Dropped if the delegate has since been emptied by a refresh that did not go through this object
+        if (ret == null || !delegate.isPresent()) {
+            // Racy single-check, at worst the delegate is queried again
+            resolved = ret = delegate.orElse(null);
+        }
+        return ret;
     }
 
     public <R, E extends R> RegistryEntry<E> getSibling(ResourceKey<? extends Registry<R>> registryType) {
@@ -0,0 +1,87 @@
+package com.tterrag.registrate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.tterrag.registrate.builders.ItemBuilder;
+import com.tterrag.registrate.builders.NoConfigBuilder;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.registries.GameData;
+
+/**
+ * Checks that builders, and the state captured by entry factories, are no longer reachable once registrations are frozen. Includes an item, whose creative tab modifier for the default tab is kept
+ * for the whole session.
+ */
+public class ReleasedBuildersTest {
+
+    private static final int ENTRIES = 100;
+    private static final ResourceKey<Registry<Object>> REGISTRY = ResourceKey.createRegistryKey(new ResourceLocation("test", "values"));
+
+    private static class TestRegistrate extends AbstractRegistrate<TestRegistrate> {
+
+        TestRegistrate() {
+            super("test");
+        }
+    }
+
+    private record Entry(int id) {}
+
+    @BeforeAll
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        // Items create their holder on construction, which needs the item registry to be unfrozen, as it is during mod loading
+        GameData.unfreezeData();
+    }
+
+    @Test
+    public void releasesBuildersAndFactories() throws InterruptedException {
+        TestRegistrate registrate = new TestRegistrate();
+        List<WeakReference<?>> released = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            addEntry(registrate, "entry_" + i, released);
+        }
+        addItem(registrate, "item", released);
+
+        registrate.registerDetached(REGISTRY);
+        registrate.registerDetached(Registries.ITEM);
+        registrate.freezeRegistrations();
+
+        for (int i = 0; i < 10 && released.stream().anyMatch(ref -> ref.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, released.stream().filter(ref -> ref.get() != null).count(), "Builders or factory state still reachable after registrations were frozen");
+
+        // Entries are still known after the release
+        assertEquals(ENTRIES, registrate.getAll(REGISTRY).size());
+        assertEquals(1, registrate.getAll(Registries.ITEM).size());
+    }
+
+    private static void addEntry(TestRegistrate registrate, String name, List<WeakReference<?>> released) {
+        Object state = new Object();
+        NoConfigBuilder<Object, Entry, TestRegistrate> builder = registrate.generic(name, REGISTRY, () -> new Entry(System.identityHashCode(state)));
+        released.add(new WeakReference<>(state));
+        released.add(new WeakReference<>(builder));
+        builder.register();
+    }
+
+    private static void addItem(TestRegistrate registrate, String name, List<WeakReference<?>> released) {
+        ItemBuilder<Item, TestRegistrate> builder = registrate.item(name, Item::new);
+        released.add(new WeakReference<>(builder));
+        builder.register();
+    }
+}
@@ -0,0 +1,96 @@
+package com.tterrag.registrate.providers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RegistrateLangProviderTest {
+
+    @Test
+    public void upsideDownPlainText() {
+        assertEquals("", RegistrateLangProvider.toUpsideDown(""));
+        assertEquals("\u0279\u01DDddo\u0186 \u025Fo \u029E\u0254o\u05DF\u15FA", RegistrateLangProvider.toUpsideDown("Block of Copper"));
+        // Chars outside of the table are kept as is
+        assertEquals("%s\u20AC", RegistrateLangProvider.toUpsideDown("\u20AC%s"));
+    }
+
+    @Test
+    public void upsideDownStringPlaceholders() {
+        assertEquals("%s", RegistrateLangProvider.toUpsideDown("%s"));
+        assertEquals("%s o\u05DF\u05DF\u01DDH", RegistrateLangProvider.toUpsideDown("Hello %s"));
+    }
+
+    @Test
+    public void upsideDownPositionalPlaceholders() {
+        assertEquals("%2$s pu\u0250 %1$s", RegistrateLangProvider.toUpsideDown("%1$s and %2$s"));
+        assertEquals("%1$s \u025Fo %2$s", RegistrateLangProvider.toUpsideDown("%2$s of %1$s"));
+    }
+
+    @Test
+    public void upsideDownNumberPlaceholders() {
+        assertEquals("s\u026F\u01DD\u0287\u0131 %d", RegistrateLangProvider.toUpsideDown("%d items"));
+        assertEquals("%d \u025Fo %d puno\u2132", RegistrateLangProvider.toUpsideDown("Found %d of %d"));
+        assertEquals("%d :%s", RegistrateLangProvider.toUpsideDown("%s: %d"));
+    }
+
+    @Test
+    public void upsideDownEscapedPercent() {
+        assertEquals("%%00\u0196 :ss\u01DD\u0279bo\u0279\u0500", RegistrateLangProvider.toUpsideDown("Progress: 100%%"));
+    }
+
+    @Test
+    public void upsideDownMatchesPreviousImplementation() {
+        String alphabet = "abcdsxyzABSZ0129%$_,;.?!/\\' \u00F1\u20AC\u00E9";
+        Random rand = new Random(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.setLength(0);
+            int len = rand.nextInt(40);
+            for (int j = 0; j < len; j++) {
+                sb.append(alphabet.charAt(rand.nextInt(alphabet.length())));
+            }
+            String s = sb.toString();
+            assertEquals(previousToUpsideDown(s), RegistrateLangProvider.toUpsideDown(s), s);
+        }
+    }
+
+    private static final String NORMAL_CHARS =
+            /* lowercase */ "abcdefghijklmn\u00F1opqrstuvwxyz" +
+            /* uppercase */ "ABCDEFGHIJKLMNOPQRSTUVWXYZ" +
+            /*  numbers  */ "0123456789" +
+            /*  special  */ "_,;.?!/\\'";
+    private static final String UPSIDE_DOWN_CHARS =
+            /* lowercase */ "\u0250q\u0254p\u01DD\u025Fb\u0265\u0131\u0638\u029E\u05DF\u026Fuuodb\u0279s\u0287n\u028C\u028Dx\u028Ez" +
+            /* uppercase */ "\u2C6F\u15FA\u0186\u15E1\u018E\u2132\u2141HI\u017F\u029E\uA780WNO\u0500\u1F49\u1D1AS\u27D8\u2229\u039BMX\u028EZ" +
+            /*  numbers  */ "0\u0196\u1105\u0190\u3123\u03DB9\u312586" +
+            /*  special  */ "\u203E'\u061B\u02D9\u00BF\u00A1/\\,";
+
+    /** The implementation before the lookup table, kept as a reference */
+    private static String previousToUpsideDown(String normal) {
+        char[] ud = new char[normal.length()];
+        for (int i = 0; i < normal.length(); i++) {
+            char c = normal.charAt(i);
+            if (c == '%') {
+                String fmtArg = "";
+                while (Character.isDigit(c) || c == '%' || c == '$' || c == 's' || c == 'd') {
+                    fmtArg += c;
+                    i++;
+                    c = i == normal.length() ? 0 : normal.charAt(i);
+                }
+                i--;
+                for (int j = 0; j < fmtArg.length(); j++) {
+                    ud[normal.length() - 1 - i + j] = fmtArg.charAt(j);
+                }
+                continue;
+            }
+            int lookup = NORMAL_CHARS.indexOf(c);
+            if (lookup >= 0) {
+                c = UPSIDE_DOWN_CHARS.charAt(lookup);
+            }
+            ud[normal.length() - 1 - i] = c;
+        }
+        return new String(ud);
+    }
+}